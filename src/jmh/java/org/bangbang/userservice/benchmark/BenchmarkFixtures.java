@@ -0,0 +1,46 @@
+package org.bangbang.userservice.benchmark;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * 벤치마크 공용 데이터 - Keycloak 이 발급하는 Access Token 과 같은 구성
+ */
+final class BenchmarkFixtures {
+    private BenchmarkFixtures() {}
+
+    static final UUID USER_ID = UUID.fromString("5b0d2f8e-6f0e-4a4c-9f0b-2d3c4e5f6a7b");
+
+    static Jwt jwt(List<String> roles) {
+        Instant now = Instant.now();
+        return Jwt.withTokenValue("eyJhbGciOiJSUzI1NiIsInR5cCIgOiAiSldUIiwia2lkIiA6ICJrZXktMSJ9.payload.signature")
+            .header("alg", "RS256")
+            .header("typ", "JWT")
+            .header("kid", "key-1")
+            .issuer("https://auth.example.com/realms/sparta")
+            .subject(USER_ID.toString())
+            .audience(List.of("account"))
+            .issuedAt(now)
+            .expiresAt(now.plusSeconds(300))
+            .claim("azp", "user-service")
+            .claim("typ", "Bearer")
+            .claim("sid", UUID.randomUUID().toString())
+            .claim("scope", "openid profile email")
+            .claim("realm_access", Map.of("roles", roles))
+            .claim("resource_access", Map.of("account", Map.of("roles", List.of("manage-account", "view-profile"))))
+            .claim("email_verified", true)
+            .claim("preferred_username", "testuser")
+            .claim("given_name", "길동")
+            .claim("family_name", "홍")
+            .claim("email", "test@example.com")
+            .claim("mobile", "01012345678")
+            .build();
+    }
+
+    static List<String> realmRoles() {
+        return List.of("default-roles-sparta", "offline_access", "uma_authorization", "ROLE_USER", "ROLE_MANAGER");
+    }
+}
@@ -0,0 +1,47 @@
+package org.bangbang.userservice.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.bangbang.userservice.application.dto.TokenInfo;
+import org.bangbang.userservice.presentation.dto.TokenResponse;
+import org.bangbang.userservice.presentation.dto.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+// UserController 응답 DTO 변환 (로그인 시도 제한은 LoginThrottleBenchmark)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControllerMappingBenchmark {
+    private TokenInfo tokenInfo;
+    private Jwt jwt;
+
+    @Setup
+    public void setUp() {
+        tokenInfo = new TokenInfo("access-token", 300, 1800, "refresh-token", "Bearer");
+        jwt = BenchmarkFixtures.jwt(BenchmarkFixtures.realmRoles());
+    }
+
+    // TokenInfo -> TokenResponse (토큰 발급, 재발급)
+    @Benchmark
+    public TokenResponse toTokenResponse() {
+        return TokenResponse.of(tokenInfo);
+    }
+
+    // JWT claims -> UserResponse (/user/profile)
+    @Benchmark
+    public UserResponse toUserResponse() {
+        return UserResponse.of(jwt);
+    }
+}
@@ -0,0 +1,41 @@
+package org.bangbang.userservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.TimeUnit;
+import org.bangbang.userservice.presentation.dto.TokenResponse;
+import org.bangbang.userservice.presentation.dto.UserResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 응답 DTO JSON 직렬화
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 실제 Keycloak Access Token 길이(약 1.2KB)에 맞춘 토큰
+    private final TokenResponse tokenResponse = new TokenResponse("a".repeat(1200), 300, 1800, "r".repeat(600), "Bearer");
+    private final UserResponse userResponse = new UserResponse(BenchmarkFixtures.USER_ID, "testuser", "test@example.com", "홍길동", "01012345678");
+
+    @Benchmark
+    public byte[] tokenResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tokenResponse);
+    }
+
+    @Benchmark
+    public byte[] userResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(userResponse);
+    }
+}
@@ -0,0 +1,56 @@
+package org.bangbang.userservice.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.bangbang.userservice.application.service.LoginThrottledException;
+import org.bangbang.userservice.infrastructure.security.LoginThrottle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 로그인 시도 제한 - 허용, 거절 (거절은 Keycloak 호출 없이 로컬에서 응답)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class LoginThrottleBenchmark {
+    private LoginThrottle open;
+    private LoginThrottle exhausted;
+
+    @Setup
+    public void setUp() {
+        open = new LoginThrottle(Integer.MAX_VALUE, Duration.ofSeconds(1), Integer.MAX_VALUE, Duration.ofSeconds(1), 100_000, new SimpleMeterRegistry());
+        exhausted = new LoginThrottle(1, Duration.ofHours(1), Integer.MAX_VALUE, Duration.ofSeconds(1), 100_000, new SimpleMeterRegistry());
+        exhausted.check("victim", "10.0.0.1");
+    }
+
+    // 사용자마다 다른 키 - stripe 분산
+    @Benchmark
+    public void allowed() {
+        int n = (int) (Thread.currentThread().threadId() & 0xff);
+        open.check("user" + n, "10.0.0." + n);
+    }
+
+    // 한 사용자에 몰리는 대입 공격
+    @Benchmark
+    public Object rejected() {
+        try {
+            exhausted.check("victim", "10.0.0.1");
+            return null;
+        } catch (LoginThrottledException e) {
+            return e;
+        }
+    }
+}
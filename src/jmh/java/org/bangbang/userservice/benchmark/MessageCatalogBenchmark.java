@@ -0,0 +1,58 @@
+package org.bangbang.userservice.benchmark;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.bangbang.userservice.infrastructure.message.MessageCatalog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.ResourceBundleMessageSource;
+
+// 메시지 조회 - ResourceBundleMessageSource (기존 MessageUtils 방식) vs MessageCatalog
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class MessageCatalogBenchmark {
+    private static final List<String> CODES = List.of("MISSING.BODY", "UNKNOWN.CODE");
+
+    private ResourceBundleMessageSource messageSource;
+    private MessageCatalog catalog;
+
+    @Setup
+    public void setUp() {
+        messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasenames("messages.commons", "messages.errors", "messages.validations");
+        messageSource.setDefaultEncoding("UTF-8");
+        catalog = new MessageCatalog();
+        LocaleContextHolder.setDefaultLocale(Locale.KOREA);
+    }
+
+    @Benchmark
+    public String messageSource() {
+        return messageSource.getMessage("MISSING.BODY", null, "", LocaleContextHolder.getLocale());
+    }
+
+    @Benchmark
+    public String catalog() {
+        return catalog.getMessage("MISSING.BODY");
+    }
+
+    @Benchmark
+    public List<String> catalogBatch() {
+        return catalog.getMessages(CODES);
+    }
+}
@@ -0,0 +1,66 @@
+package org.bangbang.userservice.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.bangbang.userservice.infrastructure.keycloak.cache.RealmRoleRegistry;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.bangbang.userservice.infrastructure.keycloak.converter.RealmRoleAuthenticationConverter;
+import org.bangbang.userservice.infrastructure.security.RealmRoleAuthenticationToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+// JWT realm_access.roles -> GrantedAuthority 변환
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoleConverterBenchmark {
+    private final RealmRoleRegistry registry = new RealmRoleRegistry(new KeycloakProperties(), null);
+    private final RealmRoleAuthenticationConverter roleSetConverter = new RealmRoleAuthenticationConverter(registry);
+    private Jwt jwt;
+    private RealmRoleAuthenticationToken authentication;
+    private int managerRole;
+
+    @Setup
+    public void setUp() {
+        jwt = BenchmarkFixtures.jwt(BenchmarkFixtures.realmRoles());
+        registry.setComposites(Map.of("default-roles-sparta", List.of("offline_access", "uma_authorization")));
+        authentication = (RealmRoleAuthenticationToken) roleSetConverter.convert(jwt);
+        managerRole = registry.roleIndex("MANAGER");
+    }
+
+    // realm_access.roles -> RoleSet + 공유 GrantedAuthority 목록
+    @Benchmark
+    public AbstractAuthenticationToken convertRoleSet() {
+        return roleSetConverter.convert(jwt);
+    }
+
+    // hasRole('MANAGER') - 문자열 비교
+    @Benchmark
+    public boolean hasRoleByAuthority() {
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if ("ROLE_MANAGER".equals(authority.getAuthority())) return true;
+        }
+        return false;
+    }
+
+    // hasRole('MANAGER') - 비트 검사
+    @Benchmark
+    public boolean hasRoleByRoleSet() {
+        return authentication.getRoles().contains(managerRole);
+    }
+}
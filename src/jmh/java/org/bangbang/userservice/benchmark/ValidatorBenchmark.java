@@ -0,0 +1,59 @@
+package org.bangbang.userservice.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.bangbang.userservice.presentation.validator.MobileValidator;
+import org.bangbang.userservice.presentation.validator.PasswordValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 비밀번호, 휴대전화 번호 검증
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+    private final PasswordValidator passwordValidator = new PasswordValidator() {};
+    private final MobileValidator mobileValidator = new MobileValidator() {};
+
+    @Param({"Password123!", "passwordpasswordpassword", "비밀번호Password1234567890!"})
+    public String password;
+
+    @Param("010-1234-5678") // 상수로 두면 JIT 가 결과를 미리 계산할 수 있다
+    public String mobile;
+
+    @Benchmark
+    public boolean checkAlpha() {
+        return passwordValidator.checkAlpha(password, false);
+    }
+
+    @Benchmark
+    public boolean checkNumber() {
+        return passwordValidator.checkNumber(password);
+    }
+
+    @Benchmark
+    public boolean checkSpecialChars() {
+        return passwordValidator.checkSpecialChars(password);
+    }
+
+    // 가입, 비밀번호 변경 시 실제로 수행되는 전체 복잡성 체크
+    @Benchmark
+    public Object checkPassword() {
+        return passwordValidator.checkPassword(password);
+    }
+
+    @Benchmark
+    public boolean checkMobile() {
+        return mobileValidator.checkMobile(mobile);
+    }
+}
@@ -0,0 +1,12 @@
+package org.bangbang.userservice.application.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// user 의 password 는 null - 비밀번호는 encryptedPassword 로만 전달 (SignupPasswordCipher)
+public record SignupCommand(
+    UUID trackingId,
+    UserRegister user,
+    String encryptedPassword,
+    Instant submittedAt
+) {}
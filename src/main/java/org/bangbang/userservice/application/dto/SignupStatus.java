@@ -0,0 +1,27 @@
+package org.bangbang.userservice.application.dto;
+
+import java.util.UUID;
+
+public record SignupStatus(
+    UUID trackingId,
+    State state,
+    String message
+) {
+    public enum State {
+        PENDING, // 접수됨, 처리 대기
+        SUCCESS, // 가입 완료
+        FAILED // 가입 실패
+    }
+
+    public static SignupStatus pending(UUID trackingId) {
+        return new SignupStatus(trackingId, State.PENDING, null);
+    }
+
+    public static SignupStatus success(UUID trackingId) {
+        return new SignupStatus(trackingId, State.SUCCESS, null);
+    }
+
+    public static SignupStatus failed(UUID trackingId, String message) {
+        return new SignupStatus(trackingId, State.FAILED, message);
+    }
+}
@@ -0,0 +1,21 @@
+package org.bangbang.userservice.application.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record UserCreated(
+    UUID eventId,
+    UUID userId,
+    String username,
+    String email,
+    String firstName,
+    String lastName,
+    String mobile,
+    Instant occurredAt
+) implements UserEvent {
+
+    public static UserCreated of(UserProfile user) {
+        return new UserCreated(UUID.randomUUID(), user.userId(), user.username(), user.email(), user.firstName(), user.lastName(),
+            user.mobile(), Instant.now());
+    }
+}
@@ -0,0 +1,16 @@
+package org.bangbang.userservice.application.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 사용자 이벤트 (user.events 토픽) - 메시지 key 는 사용자 ID, 이벤트 종류는 eventType 헤더
+ */
+public sealed interface UserEvent permits UserCreated, UserUpdated, UserRolesChanged {
+
+    UUID eventId(); // 중복 수신 확인용
+
+    UUID userId();
+
+    Instant occurredAt();
+}
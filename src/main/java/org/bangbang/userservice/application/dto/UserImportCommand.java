@@ -0,0 +1,20 @@
+package org.bangbang.userservice.application.dto;
+
+/**
+ * 일괄 등록 1건
+ *  - error 가 있으면 입력 단계(파싱, 검증)에서 이미 실패한 레코드
+ */
+public record UserImportCommand(
+    long line,
+    String username,
+    UserRegister user,
+    String error
+) {
+    public static UserImportCommand of(long line, UserRegister user) {
+        return new UserImportCommand(line, user.username(), user, null);
+    }
+
+    public static UserImportCommand invalid(long line, String username, String error) {
+        return new UserImportCommand(line, username, null, error);
+    }
+}
@@ -0,0 +1,16 @@
+package org.bangbang.userservice.application.dto;
+
+public record UserImportResult(
+    long line,
+    String username,
+    boolean success,
+    String message
+) {
+    public static UserImportResult success(long line, String username) {
+        return new UserImportResult(line, username, true, null);
+    }
+
+    public static UserImportResult failure(long line, String username, String message) {
+        return new UserImportResult(line, username, false, message);
+    }
+}
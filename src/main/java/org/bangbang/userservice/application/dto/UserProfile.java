@@ -0,0 +1,12 @@
+package org.bangbang.userservice.application.dto;
+
+import java.util.UUID;
+
+public record UserProfile(
+    UUID userId,
+    String username,
+    String email,
+    String firstName,
+    String lastName,
+    String mobile
+) {}
@@ -0,0 +1,19 @@
+package org.bangbang.userservice.application.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record UserRolesChanged(
+    UUID eventId,
+    UUID userId,
+    List<String> roles, // 변경 후 Role 전체
+    List<String> added,
+    List<String> removed,
+    Instant occurredAt
+) implements UserEvent {
+
+    public static UserRolesChanged of(UUID userId, List<String> roles, List<String> added, List<String> removed) {
+        return new UserRolesChanged(UUID.randomUUID(), userId, List.copyOf(roles), List.copyOf(added), List.copyOf(removed), Instant.now());
+    }
+}
@@ -0,0 +1,22 @@
+package org.bangbang.userservice.application.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// 변경 후 회원 정보 전체
+public record UserUpdated(
+    UUID eventId,
+    UUID userId,
+    String username,
+    String email,
+    String firstName,
+    String lastName,
+    String mobile,
+    Instant occurredAt
+) implements UserEvent {
+
+    public static UserUpdated of(UserProfile user) {
+        return new UserUpdated(UUID.randomUUID(), user.userId(), user.username(), user.email(), user.firstName(), user.lastName(),
+            user.mobile(), Instant.now());
+    }
+}
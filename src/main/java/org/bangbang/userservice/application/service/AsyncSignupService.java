@@ -0,0 +1,148 @@
+package org.bangbang.userservice.application.service;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.ServerErrorException;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.bangbang.userservice.application.dto.SignupCommand;
+import org.bangbang.userservice.application.dto.SignupStatus;
+import org.bangbang.userservice.application.dto.UserRegister;
+import org.bangbang.userservice.infrastructure.security.SignupPasswordCipher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * 비동기 회원 가입 (user.signup.async=true)
+ *  - 요청 스레드는 가입 명령 발행까지만 처리하고 추적 ID 를 반환
+ *  - 가입 명령은 배치 단위로 소비하여 UserRegisterService 로 처리, 일시적 오류는 재시도
+ *  - 처리 결과는 상태 토픽으로 모든 인스턴스에 전파되어 어느 인스턴스에서도 조회 가능
+ *  - 비밀번호는 암호화하여 전달 (SignupPasswordCipher), 가입 명령 토픽의 보존 기간은 짧게 (application.yml)
+ *  - 생성은 되었지만 커밋 전에 재전달된 명령은 409 가 나도 같은 가입 정보로 이미 생성되었으면 성공으로 처리
+ */
+@Slf4j
+@Service
+public class AsyncSignupService {
+    public static final String COMMAND_BINDING = "signupCommand-out-0";
+    public static final String STATUS_BINDING = "signupStatus-out-0";
+
+    private final UserRegisterService registerService;
+    private final StreamBridge streamBridge;
+    private final SignupPasswordCipher passwordCipher;
+    private final boolean async;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final Map<UUID, SignupStatus> statuses;
+
+    public AsyncSignupService(UserRegisterService registerService,
+                              StreamBridge streamBridge,
+                              SignupPasswordCipher passwordCipher,
+                              @Value("${user.signup.async:false}") boolean async,
+                              @Value("${user.signup.max-attempts:3}") int maxAttempts,
+                              @Value("${user.signup.backoff-millis:500}") long backoffMillis,
+                              @Value("${user.signup.status-capacity:100000}") int statusCapacity) {
+        this.registerService = registerService;
+        this.streamBridge = streamBridge;
+        this.passwordCipher = passwordCipher;
+        this.async = async;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.statuses = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, SignupStatus> eldest) {
+                return size() > statusCapacity; // 오래된 상태부터 제거
+            }
+        });
+        if (async && !passwordCipher.isConfigured()) {
+            throw new IllegalStateException("비동기 회원 가입(user.signup.async=true)에는 user.signup.command-key 설정이 필요합니다.");
+        }
+    }
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    // 가입 명령 발행, 추적 ID 반환
+    public UUID submit(UserRegister dto) {
+        UUID trackingId = UUID.randomUUID();
+        statuses.put(trackingId, SignupStatus.pending(trackingId));
+
+        UserRegister withoutPassword = new UserRegister(dto.username(), null, dto.email(), dto.firstName(), dto.lastName(), dto.mobile());
+        SignupCommand command = new SignupCommand(trackingId, withoutPassword, passwordCipher.encrypt(trackingId, dto.password()), Instant.now());
+        if (!streamBridge.send(COMMAND_BINDING, command)) {
+            statuses.remove(trackingId);
+            throw new IllegalStateException("회원 가입 요청을 접수하지 못했습니다.");
+        }
+
+        return trackingId;
+    }
+
+    public Optional<SignupStatus> getStatus(UUID trackingId) {
+        return Optional.ofNullable(statuses.get(trackingId));
+    }
+
+    // 가입 명령 배치 처리 - 배치 내 명령은 동시에 처리
+    public void handle(List<SignupCommand> commands) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            commands.forEach(command -> executor.execute(() -> streamBridge.send(STATUS_BINDING, process(command))));
+        }
+    }
+
+    // 상태 토픽 수신
+    public void onStatus(SignupStatus status) {
+        statuses.put(status.trackingId(), status);
+    }
+
+    private SignupStatus process(SignupCommand command) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                register(command);
+                return SignupStatus.success(command.trackingId());
+            } catch (RuntimeException e) {
+                if (!isRetryable(e) || attempt >= maxAttempts) {
+                    log.warn("비동기 회원 가입 실패 - trackingId: {}, attempt: {}, error: {}", command.trackingId(), attempt, e.getMessage());
+                    return SignupStatus.failed(command.trackingId(), Objects.requireNonNullElse(e.getMessage(), e.getClass().getSimpleName()));
+                }
+
+                try {
+                    Thread.sleep(backoffMillis * attempt);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return SignupStatus.failed(command.trackingId(), "처리가 중단되었습니다.");
+                }
+            }
+        }
+    }
+
+    private void register(SignupCommand command) {
+        UserRegister user = command.user();
+        String password = passwordCipher.decrypt(command.trackingId(), command.encryptedPassword());
+        try {
+            registerService.register(new UserRegister(user.username(), password, user.email(), user.firstName(), user.lastName(), user.mobile()));
+        } catch (UserAlreadyExistsException e) {
+            // 재전달, 시간 초과 후 재시도 - 이전 처리에서 이미 생성
+            if (command.submittedAt() == null || !registerService.isRegisteredSince(user, command.submittedAt())) {
+                throw e;
+            }
+            log.info("비동기 회원 가입 - 이미 처리된 명령, trackingId: {}", command.trackingId());
+        }
+    }
+
+    // Keycloak 연결 오류, 5xx, 호출 차단(Circuit Breaker 등)만 재시도 (중복 가입 등 4xx 는 재시도해도 결과가 같다)
+    private boolean isRetryable(RuntimeException e) {
+        return e instanceof ProcessingException
+            || e instanceof AuthServerUnavailableException
+            || e instanceof ServerErrorException
+            || e instanceof ResourceAccessException;
+    }
+}
@@ -0,0 +1,43 @@
+package org.bangbang.userservice.application.service;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * 인증 서버(Keycloak) 호출 차단 - 장애가 전파되지 않도록 호출하지 않고 즉시 실패
+ *  - CIRCUIT_OPEN : 최근 호출 실패율이 높아 Circuit Breaker 가 열림
+ *  - BULKHEAD_FULL : 동시 호출 수 초과
+ *  - TIMEOUT : 응답 제한 시간 초과
+ *  - OVERLOADED : Keycloak 응답 시간으로 추정한 동시 실행 허용 수 초과
+ */
+@Getter
+public class AuthServerUnavailableException extends RuntimeException {
+
+    public enum Reason {
+        CIRCUIT_OPEN("auth_server_unavailable"),
+        BULKHEAD_FULL("auth_server_busy"),
+        TIMEOUT("auth_server_timeout"),
+        OVERLOADED("auth_server_overloaded");
+
+        private final String code;
+
+        Reason(String code) {
+            this.code = code;
+        }
+
+        public String code() {
+            return code;
+        }
+    }
+
+    private final Reason reason;
+    private final String operation;
+    private final Duration retryAfter; // 재시도 권장 시간, 없으면 null
+
+    public AuthServerUnavailableException(Reason reason, String operation, Duration retryAfter, Throwable cause) {
+        super("인증 서버를 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해 주세요.", cause);
+        this.reason = reason;
+        this.operation = operation;
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,18 @@
+package org.bangbang.userservice.application.service;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * 로그인 시도 횟수 초과 - 같은 사용자명 또는 같은 IP 에서 짧은 시간에 로그인 요청이 몰림
+ */
+@Getter
+public class LoginThrottledException extends RuntimeException {
+
+    private final Duration retryAfter; // 다음 시도가 허용되기까지 남은 시간
+
+    public LoginThrottledException(Duration retryAfter) {
+        super("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.", null, false, false); // 거절 응답을 빠르게 - stack trace 생략
+        this.retryAfter = retryAfter;
+    }
+}
@@ -4,4 +4,10 @@ import org.bangbang.userservice.application.dto.TokenInfo;
 
 public interface TokenGenerateService {
     TokenInfo generate(String username, String password);
+
+    /**
+     * refresh token 으로 토큰 재발급
+     * @throws TokenRefreshException 만료/폐기된 refresh token 이면 EXPIRED (다시 로그인 필요), 그 외 오류는 FAILED (재시도 가능)
+     */
+    TokenInfo refresh(String refreshToken);
 }
@@ -0,0 +1,23 @@
+package org.bangbang.userservice.application.service;
+
+import lombok.Getter;
+
+/**
+ * 토큰 재발급 실패
+ *  - EXPIRED : refresh token 이 만료, 폐기되었거나 세션이 종료됨 -> 클라이언트는 아이디/비밀번호로 다시 로그인
+ *  - INVALID_REQUEST : 그 밖의 잘못된 요청 (4xx) -> 재시도해도 같은 결과
+ *  - CLIENT_MISCONFIGURED : 이 서비스의 client 인증 실패 (invalid_client, unauthorized_client) -> 설정 확인 필요, 재시도 불가
+ *  - FAILED : 인증 서버 장애 등 일시적 오류 (5xx, I/O) -> 같은 refresh token 으로 재시도
+ */
+@Getter
+public class TokenRefreshException extends RuntimeException {
+
+    public enum Reason { EXPIRED, INVALID_REQUEST, CLIENT_MISCONFIGURED, FAILED }
+
+    private final Reason reason;
+
+    public TokenRefreshException(Reason reason, String message, Throwable cause) {
+        super(message, cause);
+        this.reason = reason;
+    }
+}
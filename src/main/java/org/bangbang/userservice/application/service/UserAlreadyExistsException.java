@@ -0,0 +1,17 @@
+package org.bangbang.userservice.application.service;
+
+import lombok.Getter;
+
+/**
+ * 회원 가입 실패 - 같은 사용자명 또는 이메일의 사용자가 이미 있음 (Keycloak 409)
+ */
+@Getter
+public class UserAlreadyExistsException extends RuntimeException {
+
+    private final String username;
+
+    public UserAlreadyExistsException(String username, Throwable cause) {
+        super("이미 사용 중인 사용자명 또는 이메일입니다.", cause);
+        this.username = username;
+    }
+}
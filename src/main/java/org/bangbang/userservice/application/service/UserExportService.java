@@ -0,0 +1,76 @@
+package org.bangbang.userservice.application.service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import org.bangbang.userservice.application.dto.UserProfile;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.bangbang.userservice.infrastructure.keycloak.resilience.KeycloakResilience;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.resource.UsersResource;
+import org.keycloak.representations.idm.UserRepresentation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+/**
+ * 전체 사용자 내보내기
+ *  - Keycloak 사용자 목록을 pageSize 건씩 조회, 현재 페이지를 전달하는 동안 다음 페이지를 미리 조회
+ *  - 메모리에는 최대 2 페이지만 두므로 Realm 크기와 관계없이 메모리 사용량이 일정
+ *  - cursor 는 지금까지 전달한 사용자 수 (Keycloak 목록의 offset) - 중단된 내보내기는 마지막 cursor 부터 다시 시작
+ *  - offset 기준이므로 내보내는 중에 가입, 탈퇴가 있으면 일부 사용자가 빠지거나 중복될 수 있다
+ */
+@Service
+@EnableConfigurationProperties(KeycloakProperties.class)
+public class UserExportService {
+    private final UsersResource usersResource; // Realm 사용자 API 프록시 (재사용)
+    private final KeycloakResilience resilience;
+    private final int pageSize;
+
+    public UserExportService(KeycloakProperties properties, Keycloak keycloak, KeycloakResilience resilience,
+                             @Value("${user.export.page-size:500}") int pageSize) {
+        this.usersResource = keycloak.realm(properties.getRealm()).users();
+        this.resilience = resilience;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * @param cursor   시작 위치 (처음부터는 0)
+     * @param listener 사용자, 목록 순서대로 호출된다 - 예외를 던지면 내보내기 중단
+     * @return 마지막으로 전달한 사용자 다음 cursor
+     */
+    public long export(long cursor, Consumer<UserProfile> listener) {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<List<UserRepresentation>> next = fetch(cursor, executor);
+            while (next != null) {
+                List<UserRepresentation> page = join(next);
+
+                // 마지막 페이지가 아니면 다음 페이지 조회를 먼저 시작
+                next = page.size() < pageSize ? null : fetch(cursor + page.size(), executor);
+
+                for (UserRepresentation user : page) {
+                    listener.accept(UserUpdateService.toUserProfile(UUID.fromString(user.getId()), user));
+                    cursor++;
+                }
+            }
+            return cursor;
+        } // 중단된 경우 진행 중인 페이지 조회가 끝날 때까지 대기
+    }
+
+    private CompletableFuture<List<UserRepresentation>> fetch(long first, ExecutorService executor) {
+        return CompletableFuture.supplyAsync(() -> resilience.call(KeycloakResilience.USER_LIST,
+            () -> usersResource.list(Math.toIntExact(first), pageSize)), executor);
+    }
+
+    private List<UserRepresentation> join(CompletableFuture<List<UserRepresentation>> page) {
+        try {
+            return page.join();
+        } catch (CompletionException e) { // Keycloak 호출 차단 등은 그 오류 그대로
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+}
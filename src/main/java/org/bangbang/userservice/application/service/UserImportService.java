@@ -0,0 +1,88 @@
+package org.bangbang.userservice.application.service;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import org.bangbang.userservice.application.dto.UserImportCommand;
+import org.bangbang.userservice.application.dto.UserImportResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 회원 일괄 등록
+ *  - 입력을 한 건씩 읽으면서 최대 parallelism 건까지 동시에 Keycloak 가입 처리
+ *  - 동시 처리 한도에 도달하면 입력 읽기를 멈추므로 입력 크기와 관계없이 메모리 사용량이 일정
+ *  - 한 건의 실패가 전체 등록을 중단시키지 않는다
+ */
+@Service
+public class UserImportService {
+    private final UserRegisterService registerService;
+    private final int parallelism;
+
+    public UserImportService(UserRegisterService registerService,
+                             @Value("${user.import.parallelism:8}") int parallelism) {
+        this.registerService = registerService;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @param commands 등록할 회원 (지연 로딩 가능)
+     * @param listener 처리 결과, 완료 순서대로 한 번에 하나씩 호출된다
+     */
+    public void importUsers(Iterator<UserImportCommand> commands, Consumer<UserImportResult> listener) {
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicReference<RuntimeException> aborted = new AtomicReference<>(); // 결과 전달 실패(클라이언트 연결 종료 등)
+        Lock lock = new ReentrantLock(); // listener 는 응답 스트림에 쓰므로 synchronized 대신 (Virtual Thread 고정 방지)
+
+        Consumer<UserImportResult> publisher = result -> {
+            lock.lock();
+            try {
+                if (aborted.get() != null) return;
+                listener.accept(result);
+            } catch (RuntimeException e) {
+                aborted.set(e);
+            } finally {
+                lock.unlock();
+            }
+        };
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (aborted.get() == null && commands.hasNext()) {
+                UserImportCommand command = commands.next();
+                if (command.error() != null) {
+                    publisher.accept(UserImportResult.failure(command.line(), command.username(), command.error()));
+                    continue;
+                }
+
+                permits.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        publisher.accept(register(command));
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        } // 진행 중인 가입 처리가 모두 끝날 때까지 대기
+
+        if (aborted.get() != null) {
+            throw aborted.get();
+        }
+    }
+
+    private UserImportResult register(UserImportCommand command) {
+        try {
+            registerService.register(command.user());
+            return UserImportResult.success(command.line(), command.username());
+        } catch (RuntimeException e) {
+            return UserImportResult.failure(command.line(), command.username(),
+                Objects.requireNonNullElse(e.getMessage(), e.getClass().getSimpleName()));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.bangbang.userservice.application.service;
+
+import java.util.UUID;
+import lombok.Getter;
+
+/**
+ * 사용자 정보 조회 실패 - Keycloak 에 없는 사용자
+ */
+@Getter
+public class UserNotFoundException extends RuntimeException {
+
+    private final UUID userId;
+
+    public UserNotFoundException(UUID userId) {
+        super("사용자를 찾을 수 없습니다.");
+        this.userId = userId;
+    }
+}
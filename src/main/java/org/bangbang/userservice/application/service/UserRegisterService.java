@@ -1,12 +1,21 @@
 package org.bangbang.userservice.application.service;
 
 import jakarta.ws.rs.core.Response;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.bangbang.userservice.application.dto.UserCreated;
+import org.bangbang.userservice.application.dto.UserProfile;
 import org.bangbang.userservice.application.dto.UserRegister;
+import org.bangbang.userservice.infrastructure.keycloak.cache.RealmRoleCache;
 import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.bangbang.userservice.infrastructure.keycloak.resilience.KeycloakResilience;
+import org.bangbang.userservice.infrastructure.search.UserSearchIndex;
+import org.bangbang.userservice.infrastructure.stream.UserEventPublisher;
 import org.keycloak.admin.client.CreatedResponseUtil;
 import org.keycloak.admin.client.Keycloak;
 import org.keycloak.admin.client.resource.UsersResource;
@@ -14,22 +23,43 @@ import org.keycloak.representations.idm.CredentialRepresentation;
 import org.keycloak.representations.idm.RoleRepresentation;
 import org.keycloak.representations.idm.UserRepresentation;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 @EnableConfigurationProperties(KeycloakProperties.class)
 public class UserRegisterService {
-    private final KeycloakProperties properties;
-    private final Keycloak keycloak;
+    private static final String DEFAULT_ROLE = "ROLE_USER";
+    private static final Duration CLOCK_SKEW = Duration.ofSeconds(30); // Keycloak 과 이 서비스의 시계 차이 허용
+
+    private final UsersResource usersResource; // Realm 사용자 API 프록시 (재사용)
+    private final RealmRoleCache roleCache;
+    private final UserSearchIndex searchIndex;
+    private final UserEventPublisher eventPublisher;
+    private final KeycloakResilience resilience;
+
+    // Keycloak 이 생성 요청의 realmRoles 를 반영하는지 여부, null 이면 아직 확인 전
+    private volatile Boolean embeddedRolesSupported;
+
+    public UserRegisterService(KeycloakProperties properties, Keycloak keycloak, RealmRoleCache roleCache, UserSearchIndex searchIndex,
+                               UserEventPublisher eventPublisher, KeycloakResilience resilience) {
+        this.usersResource = keycloak.realm(properties.getRealm()).users();
+        this.roleCache = roleCache;
+        this.searchIndex = searchIndex;
+        this.eventPublisher = eventPublisher;
+        this.resilience = resilience;
+        this.embeddedRolesSupported = properties.getSignup().getEmbeddedRoles();
+    }
 
     public void register(UserRegister dto) {
         // Keycloak에 사용자 생성
-        UsersResource usersResource = keycloak.realm(properties.getRealm()).users();
-        System.out.println("dto:" + dto);
-        System.out.println("properties:" + properties);
+        log.debug("회원 가입 - username: {}", dto.username());
 
         // 사용자 표현 객체 생성
         UserRepresentation user = new UserRepresentation();
@@ -42,28 +72,79 @@ public class UserRegisterService {
 
         // 사용자 속성 설정
         Map<String, List<String>> attributes = new HashMap<>();
-        attributes.put("mobile", List.of(dto.mobile()));
-        user.setAttributes(attributes);
-
-        Response response = usersResource.create(user);
-
-        if (response.getStatus() != 201) {
-            throw new HttpClientErrorException(HttpStatus.BAD_REQUEST, response.getStatusInfo().getReasonPhrase());
+        if (StringUtils.hasText(dto.mobile())) {
+            attributes.put("mobile", List.of(dto.mobile()));
         }
+        user.setAttributes(attributes);
 
-        // 사용자 생성 성공, 비밀번호 설정
-        String userId = CreatedResponseUtil.getCreatedId(response);
-
+        // 비밀번호, 기본 Role 을 생성 요청에 함께 전송 -> 1회 호출로 가입 처리
         CredentialRepresentation passwordCred = new CredentialRepresentation();
         passwordCred.setTemporary(false);
         passwordCred.setType(CredentialRepresentation.PASSWORD);
         passwordCred.setValue(dto.password());
+        user.setCredentials(List.of(passwordCred));
 
-        usersResource.get(userId).resetPassword(passwordCred);
+        boolean embedRoles = !Boolean.FALSE.equals(embeddedRolesSupported);
+        if (embedRoles) {
+            user.setRealmRoles(List.of(DEFAULT_ROLE));
+        }
+
+        String userId;
+        try {
+            userId = resilience.call(KeycloakResilience.USER_CREATE, () -> {
+                try (Response response = usersResource.create(user)) {
+                    if (response.getStatus() != 201) {
+                        throw toResponseException(response); // 5xx 는 Circuit Breaker 실패로 집계
+                    }
 
-        // 기본 Role 부여
-        RoleRepresentation userRole = keycloak.realm(properties.getRealm()).roles().get("ROLE_USER").toRepresentation();
+                    return CreatedResponseUtil.getCreatedId(response);
+                }
+            });
+        } catch (HttpClientErrorException.Conflict e) {
+            throw new UserAlreadyExistsException(dto.username(), e);
+        }
+        UserProfile created = new UserProfile(UUID.fromString(userId), dto.username(), dto.email(), dto.firstName(), dto.lastName(), dto.mobile());
+        searchIndex.upsert(created);
+        eventPublisher.publish(UserCreated.of(created));
+
+        if (embedRoles && isDefaultRoleAssigned(usersResource, userId)) {
+            return;
+        }
+
+        // 기본 Role 부여 (생성 요청의 Role 을 무시하는 Keycloak 버전)
+        RoleRepresentation userRole = roleCache.get(DEFAULT_ROLE);
+
+        resilience.run(KeycloakResilience.USER_ROLE_WRITE, () -> usersResource.get(userId).roles().realmLevel().add(List.of(userRole)));
+    }
+
+    // since 이후 같은 사용자명, 이메일로 생성된 사용자가 있는지 (비동기 가입 명령 재처리 확인)
+    public boolean isRegisteredSince(UserRegister dto, Instant since) {
+        long createdAfter = since.minus(CLOCK_SKEW).toEpochMilli();
+        return resilience.call(KeycloakResilience.USER_READ, () -> usersResource.searchByUsername(dto.username(), true)).stream()
+            .anyMatch(user -> user.getUsername().equalsIgnoreCase(dto.username())
+                && user.getEmail() != null && user.getEmail().equalsIgnoreCase(dto.email())
+                && user.getCreatedTimestamp() != null && user.getCreatedTimestamp() >= createdAfter);
+    }
+
+    // Keycloak 응답 상태 그대로 (4xx HttpClientErrorException, 5xx HttpServerErrorException)
+    private static HttpStatusCodeException toResponseException(Response response) {
+        HttpStatusCode status = HttpStatusCode.valueOf(response.getStatus());
+        String reason = response.getStatusInfo().getReasonPhrase();
+        return status.is5xxServerError()
+            ? HttpServerErrorException.create(status, reason, HttpHeaders.EMPTY, null, null)
+            : HttpClientErrorException.create(status, reason, HttpHeaders.EMPTY, null, null);
+    }
+
+    // 최초 1회만 실제 부여 여부를 확인하고 결과를 기억한다
+    private boolean isDefaultRoleAssigned(UsersResource usersResource, String userId) {
+        Boolean supported = embeddedRolesSupported;
+        if (supported == null) {
+            supported = resilience.call(KeycloakResilience.USER_ROLE_READ, () -> usersResource.get(userId).roles().realmLevel().listAll())
+                .stream()
+                .anyMatch(role -> DEFAULT_ROLE.equals(role.getName()));
+            embeddedRolesSupported = supported;
+        }
 
-        usersResource.get(userId).roles().realmLevel().add(List.of(userRole));
+        return supported;
     }
 }
@@ -1,15 +1,36 @@
 package org.bangbang.userservice.application.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.ws.rs.NotFoundException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import org.bangbang.userservice.application.dto.UserProfile;
+import org.bangbang.userservice.application.dto.UserRolesChanged;
 import org.bangbang.userservice.application.dto.UserUpdate;
+import org.bangbang.userservice.application.dto.UserUpdated;
+import org.bangbang.userservice.infrastructure.keycloak.cache.RealmRoleCache;
+import org.bangbang.userservice.infrastructure.keycloak.cache.UserProfileCache;
 import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.bangbang.userservice.infrastructure.keycloak.resilience.KeycloakResilience;
+import org.bangbang.userservice.infrastructure.search.UserSearchIndex;
+import org.bangbang.userservice.infrastructure.stream.UserEventPublisher;
 import org.keycloak.admin.client.Keycloak;
 import org.keycloak.admin.client.resource.RoleScopeResource;
+import org.keycloak.admin.client.resource.UsersResource;
 import org.keycloak.representations.idm.CredentialRepresentation;
 import org.keycloak.representations.idm.RoleRepresentation;
 import org.keycloak.representations.idm.UserRepresentation;
@@ -18,39 +39,130 @@ import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 @Service
-@RequiredArgsConstructor
 @EnableConfigurationProperties(KeycloakProperties.class)
 public class UserUpdateService {
-    private final KeycloakProperties properties;
-    private final Keycloak keycloak;
+    private final UsersResource usersResource; // Realm 사용자 API 프록시 (재사용)
+    private final RealmRoleCache roleCache;
+    private final UserProfileCache userCache;
+    private final UserSearchIndex searchIndex;
+    private final UserEventPublisher eventPublisher;
+    private final KeycloakResilience resilience;
+    private final int lookupParallelism;
+    private final Counter profileUpdateSkipped; // 변경 사항이 없어 Keycloak 반영을 생략한 회원 정보 변경 요청 수
+    private final Counter roleUpdateSkipped; // 변경 사항이 없어 Keycloak 반영을 생략한 Role 변경 요청 수
+
+    public UserUpdateService(KeycloakProperties properties, Keycloak keycloak, RealmRoleCache roleCache, UserProfileCache userCache,
+                             UserSearchIndex searchIndex, UserEventPublisher eventPublisher, MeterRegistry meterRegistry, KeycloakResilience resilience) {
+        this.usersResource = keycloak.realm(properties.getRealm()).users();
+        this.roleCache = roleCache;
+        this.userCache = userCache;
+        this.searchIndex = searchIndex;
+        this.eventPublisher = eventPublisher;
+        this.resilience = resilience;
+        this.lookupParallelism = Math.max(1, properties.getUserCache().getLookupParallelism());
+        this.profileUpdateSkipped = Counter.builder("user.profile.update.skipped").register(meterRegistry);
+        this.roleUpdateSkipped = Counter.builder("user.role.update.skipped").register(meterRegistry);
+    }
+
+    // 사용자 정보 조회 (캐시)
+    public UserProfile getUser(UUID userId) {
+        UserProfile user = userCache.get(userId, this::loadUser);
+        if (user == null) {
+            throw new UserNotFoundException(userId);
+        }
+        return user;
+    }
+
+    // 사용자 정보 일괄 조회 - 캐시에 없는 사용자만 lookupParallelism 건씩 동시에 조회, 요청 순서대로 반환 (없는 사용자, 중복은 제외)
+    public List<UserProfile> getUsers(List<UUID> userIds) {
+        Map<UUID, UserProfile> users = new LinkedHashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID userId : userIds) {
+            if (users.containsKey(userId)) continue;
+
+            UserProfile cached = userCache.getIfPresent(userId);
+            users.put(userId, cached);
+            if (cached == null) missing.add(userId);
+        }
 
-    // 회원 정보 변경
+        if (!missing.isEmpty()) {
+            Map<UUID, CompletableFuture<UserProfile>> loading = new HashMap<>();
+            Semaphore permits = new Semaphore(lookupParallelism); // 한 요청이 Keycloak 동시 호출 한도를 모두 차지하지 않도록
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                missing.forEach(userId -> loading.put(userId, CompletableFuture.supplyAsync(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        return userCache.get(userId, this::loadUser);
+                    } finally {
+                        permits.release();
+                    }
+                }, executor)));
+            } // 조회가 모두 끝날 때까지 대기
+
+            try {
+                loading.forEach((userId, future) -> users.put(userId, future.join()));
+            } catch (CompletionException e) { // 한 건이라도 실패(Keycloak 호출 차단 등)하면 그 오류 그대로
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        return users.values().stream().filter(Objects::nonNull).toList();
+    }
+
+    // 회원 정보 변경 - 현재 정보와 달라진 항목만 전송, 변경이 없으면 생략
     public void update(UUID userId, UserUpdate dto) {
         // 현재 사용자 정보 조회
         UserRepresentation user = getUserProfile(userId);
 
-        if (StringUtils.hasText(dto.firstName())) {
-            user.setFirstName(dto.firstName());
+        UserRepresentation changes = new UserRepresentation();
+        boolean changed = false;
+
+        if (isChanged(dto.firstName(), user.getFirstName())) {
+            changes.setFirstName(dto.firstName());
+            changed = true;
         }
 
-        if (StringUtils.hasText(dto.lastName())) {
-            user.setLastName(dto.lastName());
+        if (isChanged(dto.lastName(), user.getLastName())) {
+            changes.setLastName(dto.lastName());
+            changed = true;
         }
 
-        if (StringUtils.hasText(dto.email())) {
-            user.setEmail(dto.email());
+        // Keycloak 은 이메일을 소문자로 저장
+        if (StringUtils.hasText(dto.email()) && !dto.email().equalsIgnoreCase(user.getEmail())) {
+            changes.setEmail(dto.email());
+            changed = true;
         }
 
+        // attributes 를 보내면 전체가 교체되므로 변경된 경우에만 기존 속성과 함께 전송
         Map<String, List<String>> attributes = Objects.requireNonNullElseGet(user.getAttributes(), HashMap::new);
+        String mobile = attributes.getOrDefault("mobile", List.of()).stream().findFirst().orElse(null);
 
-        if (StringUtils.hasText(dto.mobile())) {
+        if (isChanged(dto.mobile(), mobile)) {
+            attributes = new HashMap<>(attributes);
             attributes.put("mobile", List.of(dto.mobile()));
+            changes.setAttributes(attributes);
+            // attributes 를 보내면 Keycloak(User Profile)은 요청에 없는 기본 항목(이름, 이메일)까지 삭제하므로 현재 값과 함께 전송
+            changes.setUsername(user.getUsername());
+            if (changes.getFirstName() == null) changes.setFirstName(user.getFirstName());
+            if (changes.getLastName() == null) changes.setLastName(user.getLastName());
+            if (changes.getEmail() == null) changes.setEmail(user.getEmail());
+            changed = true;
         }
 
-        user.setAttributes(attributes);
+        if (!changed) {
+            profileUpdateSkipped.increment();
+            return;
+        }
 
-        // 엡데이트 처리
-        keycloak.realm(properties.getRealm()).users().get(userId.toString()).update(user);
+        // 엡데이트 처리 - 시간 초과 등으로 실패해도 반영되었을 수 있으므로 캐시는 항상 무효화
+        try {
+            resilience.run(KeycloakResilience.USER_UPDATE, () -> usersResource.get(userId.toString()).update(changes));
+            UserProfile updated = toUserProfile(userId, applyChanges(user, changes));
+            searchIndex.upsert(updated);
+            eventPublisher.publish(UserUpdated.of(updated));
+        } finally {
+            userCache.evict(userId);
+        }
     }
 
     // 비밀번호 변경
@@ -60,26 +172,82 @@ public class UserUpdateService {
         passwordCred.setType(CredentialRepresentation.PASSWORD);
         passwordCred.setValue(newPassword);
 
-        keycloak.realm(properties.getRealm()).users().get(userId.toString()).resetPassword(passwordCred);
+        try {
+            resilience.run(KeycloakResilience.USER_PASSWORD, () -> usersResource.get(userId.toString()).resetPassword(passwordCred));
+        } finally {
+            userCache.evict(userId);
+        }
     }
 
-    // Role 변경
+    // Role 변경 - 현재 Role 과 비교하여 달라진 Role 만 반영
     public void updateUserRole(UUID userId, List<String> roleNames) {
-        String id = userId.toString();
-        String realm = properties.getRealm();
-        RoleScopeResource resource = keycloak.realm(realm).users().get(id).roles().realmLevel();
+        RoleScopeResource resource = usersResource.get(userId.toString()).roles().realmLevel();
+
+        Set<String> requested = new LinkedHashSet<>(roleNames);
+        List<RoleRepresentation> current = resilience.call(KeycloakResilience.USER_ROLE_READ, resource::listAll);
+        Set<String> currentNames = current.stream().map(RoleRepresentation::getName).collect(Collectors.toSet());
 
-        // 기존 Role 제거
-        resource.remove(resource.listAll());
+        List<String> added = requested.stream().filter(roleName -> !currentNames.contains(roleName)).toList();
+        List<RoleRepresentation> removed = current.stream().filter(role -> !requested.contains(role.getName())).toList();
+
+        if (added.isEmpty() && removed.isEmpty()) { // 변경 없음
+            roleUpdateSkipped.increment();
+            return;
+        }
+
+        try {
+            // 새 Role 을 먼저 추가하여 Role 이 하나도 없는 구간이 생기지 않도록 한다
+            if (!added.isEmpty()) {
+                List<RoleRepresentation> roles = roleCache.getAll(added);
+                resilience.run(KeycloakResilience.USER_ROLE_WRITE, () -> resource.add(roles));
+            }
+
+            // 요청에 없는 기존 Role 제거
+            if (!removed.isEmpty()) {
+                resilience.run(KeycloakResilience.USER_ROLE_WRITE, () -> resource.remove(removed));
+            }
+
+            eventPublisher.publish(UserRolesChanged.of(userId, List.copyOf(requested), added,
+                removed.stream().map(RoleRepresentation::getName).toList()));
+        } finally {
+            userCache.evict(userId);
+        }
+    }
 
-        // 새 Role 추가
-        List<RoleRepresentation> newRoles = roleNames.stream().map(roleName -> keycloak.realm(realm).roles().get(roleName).toRepresentation()).toList();
-        resource.add(newRoles);
+    private boolean isChanged(String requested, String current) {
+        return StringUtils.hasText(requested) && !requested.equals(current);
+    }
+
+    // 캐시 미적중 시 Keycloak 조회, 없는 사용자는 null
+    private UserProfile loadUser(UUID userId) {
+        UserRepresentation user;
+        try {
+            user = getUserProfile(userId);
+        } catch (NotFoundException e) {
+            return null;
+        }
+        return toUserProfile(userId, user);
+    }
+
+    // 현재 정보에 변경 항목을 덮어쓴 정보 (Keycloak 재조회 없이 검색 색인, 이벤트에 반영)
+    private UserRepresentation applyChanges(UserRepresentation user, UserRepresentation changes) {
+        UserRepresentation updated = new UserRepresentation();
+        updated.setUsername(user.getUsername());
+        updated.setFirstName(changes.getFirstName() != null ? changes.getFirstName() : user.getFirstName());
+        updated.setLastName(changes.getLastName() != null ? changes.getLastName() : user.getLastName());
+        updated.setEmail(changes.getEmail() != null ? changes.getEmail() : user.getEmail());
+        updated.setAttributes(changes.getAttributes() != null ? changes.getAttributes() : user.getAttributes());
+        return updated;
+    }
 
+    static UserProfile toUserProfile(UUID userId, UserRepresentation user) {
+        Map<String, List<String>> attributes = Objects.requireNonNullElse(user.getAttributes(), Map.of());
+        String mobile = attributes.getOrDefault("mobile", List.of()).stream().findFirst().orElse(null);
+        return new UserProfile(userId, user.getUsername(), user.getEmail(), user.getFirstName(), user.getLastName(), mobile);
     }
 
     // 사용자 UUID로 키클록 회원정보 조회
     private UserRepresentation getUserProfile(UUID userId) {
-        return keycloak.realm(properties.getRealm()).users().get(userId.toString()).toRepresentation();
+        return resilience.call(KeycloakResilience.USER_READ, () -> usersResource.get(userId.toString()).toRepresentation());
     }
 }
@@ -4,21 +4,31 @@ package org.bangbang.userservice.infrastructure.keycloak.api;
 import lombok.RequiredArgsConstructor;
 import org.bangbang.userservice.application.dto.TokenInfo;
 import org.bangbang.userservice.application.service.TokenGenerateService;
+import org.bangbang.userservice.application.service.TokenRefreshException;
+import org.bangbang.userservice.application.service.TokenRefreshException.Reason;
 import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.bangbang.userservice.infrastructure.keycloak.resilience.KeycloakResilience;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
 
 @Component
 @RequiredArgsConstructor
 @EnableConfigurationProperties(KeycloakProperties.class)
 public class KeycloakTokenGenerateService implements TokenGenerateService {
 
+    private static final String TOKEN_URI = "/realms/{realm}/protocol/openid-connect/token";
+
     private final KeycloakProperties properties;
+    private final RestClient keycloakRestClient; // 커넥션 풀을 공유하는 클라이언트 (KeycloakHttpClientConfig)
+    private final KeycloakResilience resilience;
 
     @Override
     public TokenInfo generate(String username, String password) {
@@ -29,13 +39,12 @@ public class KeycloakTokenGenerateService implements TokenGenerateService {
         form.add("username", username);
         form.add("password", password);
         form.add("scope", "openid profile email");
-        RestClient client = RestClient.create();
-        ResponseEntity<TokenInfo> res = client.post()
-            .uri(String.format("%s/realms/%s/protocol/openid-connect/token", properties.getServerUrl(), properties.getRealm()))
+        ResponseEntity<TokenInfo> res = resilience.call(KeycloakResilience.TOKEN, () -> keycloakRestClient.post()
+            .uri(TOKEN_URI, properties.getRealm())
             .contentType(MediaType.APPLICATION_FORM_URLENCODED)
             .body(form)
             .retrieve()
-            .toEntity(TokenInfo.class);
+            .toEntity(TokenInfo.class));
 
         if (res.getStatusCode().is2xxSuccessful()) {
             return res.getBody();
@@ -43,4 +52,48 @@ public class KeycloakTokenGenerateService implements TokenGenerateService {
 
         return null;
     }
+
+    // refresh_token grant - Keycloak 의 비밀번호 해싱 없이 토큰 재발급
+    @Override
+    public TokenInfo refresh(String refreshToken) {
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("grant_type", "refresh_token");
+        form.add("client_id", properties.getClientId());
+        form.add("client_secret", properties.getClientSecret());
+        form.add("refresh_token", refreshToken);
+        try {
+            return resilience.call(KeycloakResilience.TOKEN_REFRESH, () -> keycloakRestClient.post()
+                .uri(TOKEN_URI, properties.getRealm())
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(form)
+                .retrieve()
+                .body(TokenInfo.class));
+        } catch (HttpClientErrorException e) { // 4xx 는 재시도해도 같은 결과
+            String error = errorCode(e);
+            // 만료, 폐기, 세션 종료된 refresh token 은 400 invalid_grant
+            if (e.getStatusCode() == HttpStatus.BAD_REQUEST && "invalid_grant".equals(error)) {
+                throw new TokenRefreshException(Reason.EXPIRED, "refresh token 이 만료되었습니다. 다시 로그인해 주세요.", e);
+            }
+            // client_secret 불일치 (401 invalid_client), refresh_token grant 미허용 (unauthorized_client)
+            if (e.getStatusCode() == HttpStatus.UNAUTHORIZED || "invalid_client".equals(error) || "unauthorized_client".equals(error)) {
+                throw new TokenRefreshException(Reason.CLIENT_MISCONFIGURED,
+                    "Keycloak client 인증에 실패했습니다. (status: " + e.getStatusCode().value() + ", error: " + error + ")", e);
+            }
+            throw new TokenRefreshException(Reason.INVALID_REQUEST, "잘못된 토큰 재발급 요청입니다.", e);
+        } catch (RestClientException e) { // 5xx, I/O 오류
+            throw new TokenRefreshException(Reason.FAILED, "토큰 재발급에 실패했습니다.", e);
+        }
+    }
+
+    // OAuth2 오류 응답의 error 항목, 본문이 없거나 형식이 다르면 null
+    private String errorCode(HttpClientErrorException e) {
+        try {
+            TokenError error = e.getResponseBodyAs(TokenError.class);
+            return error == null ? null : error.error();
+        } catch (RuntimeException parseError) {
+            return null;
+        }
+    }
+
+    private record TokenError(String error, String error_description) {}
 }
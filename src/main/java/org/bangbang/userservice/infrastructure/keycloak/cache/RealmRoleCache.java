@@ -0,0 +1,100 @@
+package org.bangbang.userservice.infrastructure.keycloak.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.bangbang.userservice.infrastructure.keycloak.resilience.KeycloakResilience;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.resource.RolesResource;
+import org.keycloak.representations.idm.RoleRepresentation;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Realm Role 캐시
+ *  - Role 이름을 키로 RoleRepresentation 을 TTL 동안 보관
+ *  - 기동 시 Realm Role 전체를 한 번에 적재
+ *  - Role 변경 시 invalidate / invalidateAll 로 명시적 무효화
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(KeycloakProperties.class)
+public class RealmRoleCache {
+    private final KeycloakProperties properties;
+    private final RolesResource rolesResource; // Realm Role API 프록시 (재사용)
+    private final KeycloakResilience resilience;
+    private final Map<String, CachedRole> roles = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public RealmRoleCache(KeycloakProperties properties, Keycloak keycloak, MeterRegistry meterRegistry, KeycloakResilience resilience) {
+        this.properties = properties;
+        this.rolesResource = keycloak.realm(properties.getRealm()).roles();
+        this.resilience = resilience;
+        this.hits = Counter.builder("keycloak.realm.role.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("keycloak.realm.role.cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    // Role 이름으로 조회, 캐시에 없거나 만료된 경우 Keycloak 에서 조회 후 적재
+    public RoleRepresentation get(String roleName) {
+        CachedRole cached = roles.get(roleName);
+        if (cached != null && !cached.isExpired()) {
+            hits.increment();
+            return cached.role();
+        }
+
+        misses.increment();
+        RoleRepresentation role = resilience.call(KeycloakResilience.ROLE_READ, () -> rolesResource.get(roleName).toRepresentation());
+        put(role);
+
+        return role;
+    }
+
+    public List<RoleRepresentation> getAll(Collection<String> roleNames) {
+        return roleNames.stream().map(this::get).toList();
+    }
+
+    // Realm Role 전체 적재
+    public void preload() {
+        List<RoleRepresentation> realmRoles = rolesResource.list();
+        realmRoles.forEach(this::put);
+        log.info("Realm Role {}건 캐시 적재", realmRoles.size());
+    }
+
+    public void invalidate(String roleName) {
+        roles.remove(roleName);
+    }
+
+    public void invalidateAll() {
+        roles.clear();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadOnStartup() {
+        if (!properties.getRoleCache().isPreload()) return;
+
+        try {
+            preload();
+        } catch (RuntimeException e) { // Keycloak 미기동 시에도 서비스는 기동, 이후 조회 시 적재
+            log.warn("Realm Role 캐시 적재 실패: {}", e.getMessage());
+        }
+    }
+
+    private void put(RoleRepresentation role) {
+        long expiresAt = System.nanoTime() + properties.getRoleCache().getTtl().toNanos();
+        roles.put(role.getName(), new CachedRole(role, expiresAt));
+    }
+
+    private record CachedRole(RoleRepresentation role, long expiresAt) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAt > 0;
+        }
+    }
+}
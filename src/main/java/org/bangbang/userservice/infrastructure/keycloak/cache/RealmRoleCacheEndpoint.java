@@ -0,0 +1,39 @@
+package org.bangbang.userservice.infrastructure.keycloak.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Realm Role 캐시 무효화 Actuator 엔드포인트
+ *  - DELETE /actuator/realmroles : 전체 무효화
+ *  - DELETE /actuator/realmroles/{roleName} : 특정 Role 무효화
+ *  - POST /actuator/realmroles : 전체 재적재 (Composite Role 구성 포함)
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "realmroles")
+public class RealmRoleCacheEndpoint {
+    private final RealmRoleCache cache;
+    private final RealmRoleRegistry registry;
+
+    @DeleteOperation
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @DeleteOperation
+    public void invalidate(@Selector String roleName) {
+        cache.invalidate(roleName);
+    }
+
+    @WriteOperation
+    public void reload() {
+        cache.invalidateAll();
+        cache.preload();
+        registry.load();
+    }
+}
@@ -0,0 +1,168 @@
+package org.bangbang.userservice.infrastructure.keycloak.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.bangbang.userservice.infrastructure.security.RoleSet;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.resource.RolesResource;
+import org.keycloak.representations.idm.RoleRepresentation;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+/**
+ * Realm Role 번호 등록부
+ *  - Role 이름마다 고정 번호를 부여 (기동 시 Realm Role 전체 등록, 토큰에서 처음 보는 Role 은 그때 등록)
+ *  - Composite Role 그래프를 적재하여 하위 Role 까지 로컬에서 전개
+ *  - ROLE_ 로 시작하는 Role 은 공유 GrantedAuthority 로 변환 (RoleSet 별 목록 재사용)
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(KeycloakProperties.class)
+public class RealmRoleRegistry {
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final int MAX_AUTHORITY_LISTS = 1024;
+
+    private final KeycloakProperties properties;
+    private final Keycloak keycloak;
+    private final Map<String, Integer> indexes = new ConcurrentHashMap<>(); // Role 이름 -> 번호
+    private final Map<String, Integer> roleIndexes = new ConcurrentHashMap<>(); // hasRole 인자 (ADMIN, ROLE_ADMIN) -> 번호
+    private final List<GrantedAuthority> authorities = new CopyOnWriteArrayList<>(); // 번호 -> GrantedAuthority (ROLE_ 외에는 null)
+    private final Map<RoleSet, List<GrantedAuthority>> authorityLists = new ConcurrentHashMap<>();
+    private volatile RoleSet[] composites = new RoleSet[0]; // Composite Role 번호 -> 전개된 하위 Role (자신 포함)
+    private volatile RoleSet compositeRoles = RoleSet.EMPTY;
+
+    public RealmRoleRegistry(KeycloakProperties properties, Keycloak keycloak) {
+        this.properties = properties;
+        this.keycloak = keycloak;
+    }
+
+    // Role 번호, 처음 보는 Role 이면 등록
+    public int indexOf(String roleName) {
+        Integer index = indexes.get(roleName);
+        return index != null ? index : register(roleName);
+    }
+
+    // hasRole('ADMIN') / hasRole('ROLE_ADMIN') 의 Role 번호, 등록되지 않은 Role 이면 -1
+    public int roleIndex(String role) {
+        Integer index = roleIndexes.get(role);
+        return index != null ? index : -1;
+    }
+
+    // 토큰의 Role 이름 -> Composite Role 을 전개한 RoleSet
+    public RoleSet resolve(Collection<?> roleNames) {
+        RoleSet.Builder builder = RoleSet.builder();
+        for (Object roleName : roleNames) {
+            builder.add(indexOf(roleName.toString()));
+        }
+        RoleSet direct = builder.build();
+        if (!direct.containsAny(compositeRoles)) return direct;
+
+        RoleSet[] graph = composites;
+        direct.forEach(index -> {
+            if (index < graph.length && graph[index] != null) builder.addAll(graph[index]);
+        });
+        return builder.build();
+    }
+
+    public List<GrantedAuthority> authorities(RoleSet roles) {
+        List<GrantedAuthority> cached = authorityLists.get(roles);
+        if (cached != null) return cached;
+
+        List<GrantedAuthority> list = new ArrayList<>();
+        roles.forEach(index -> {
+            GrantedAuthority authority = authorities.get(index);
+            if (authority != null) list.add(authority);
+        });
+        List<GrantedAuthority> result = List.copyOf(list);
+        if (authorityLists.size() >= MAX_AUTHORITY_LISTS) authorityLists.clear();
+        authorityLists.put(roles, result);
+
+        return result;
+    }
+
+    // Realm Role 전체와 Composite Role 구성 적재
+    public void load() {
+        RolesResource resource = keycloak.realm(properties.getRealm()).roles();
+        List<RoleRepresentation> roles = resource.list(false);
+        roles.forEach(role -> indexOf(role.getName()));
+
+        Map<String, Set<String>> children = roles.stream()
+            .filter(role -> Boolean.TRUE.equals(role.isComposite()))
+            .collect(Collectors.toMap(RoleRepresentation::getName, role -> resource.get(role.getName()).getRealmRoleComposites()
+                .stream()
+                .map(RoleRepresentation::getName)
+                .collect(Collectors.toSet())));
+        setComposites(children);
+
+        log.info("Realm Role {}건 등록, Composite Role {}건", roles.size(), children.size());
+    }
+
+    // Composite Role -> 직접 포함한 Role, 하위 Role 까지 전개하여 보관
+    public void setComposites(Map<String, ? extends Collection<String>> children) {
+        RoleSet[] graph = new RoleSet[0];
+        RoleSet.Builder all = RoleSet.builder();
+        for (String role : children.keySet()) {
+            RoleSet.Builder expanded = RoleSet.builder();
+            expand(role, children, expanded, new HashSet<>());
+
+            int index = indexOf(role);
+            if (index >= graph.length) graph = Arrays.copyOf(graph, index + 1);
+            graph[index] = expanded.build();
+            all.add(index);
+        }
+
+        composites = graph;
+        compositeRoles = all.build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            load();
+        } catch (RuntimeException e) { // Keycloak 미기동 시에도 서비스는 기동, 토큰의 Role 만으로 판단
+            log.warn("Realm Role 등록 실패: {}", e.getMessage());
+        }
+    }
+
+    private void expand(String role, Map<String, ? extends Collection<String>> children, RoleSet.Builder expanded, Set<String> visited) {
+        if (!visited.add(role)) return; // 순환 참조 방지
+
+        expanded.add(indexOf(role));
+        Collection<String> direct = children.get(role);
+        if (direct == null) return;
+
+        for (String child : direct) {
+            expand(child, children, expanded, visited);
+        }
+    }
+
+    private synchronized int register(String roleName) {
+        Integer index = indexes.get(roleName);
+        if (index != null) return index;
+
+        int next = authorities.size();
+        boolean role = roleName.startsWith(ROLE_PREFIX);
+        authorities.add(role ? new SimpleGrantedAuthority(roleName) : null);
+        if (role) {
+            roleIndexes.put(roleName, next);
+            roleIndexes.put(roleName.substring(ROLE_PREFIX.length()), next);
+        }
+        indexes.put(roleName, next);
+
+        return next;
+    }
+}
@@ -0,0 +1,150 @@
+package org.bangbang.userservice.infrastructure.keycloak.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.bangbang.userservice.application.dto.UserProfile;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 정보 캐시 (GET /user/{id}, GET /users)
+ *  - 사용자 ID 를 키로 UserProfile 을 TTL 동안 보관, 없으면 loader 로 조회 후 적재 (read-through)
+ *  - 최대 maxSize 건, 가득 차면 만료된 항목을 정리하고 그래도 부족하면 임의의 항목을 제거
+ *  - 회원 정보, 비밀번호, Role 변경 시 evict - 자기 인스턴스에서 즉시 제거하고 무효화 토픽으로 모든 인스턴스에 전파
+ *  - 전파는 전용 스레드가 전송 (요청 스레드는 브로커 장애에도 막히지 않는다), 대기열이 가득 차면 버리고 다른 인스턴스는 TTL 후 만료
+ *  - 조회 중에 무효화가 일어나면 조회 결과를 남기지 않는다 (변경 전 정보가 TTL 동안 남지 않도록)
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(KeycloakProperties.class)
+public class UserProfileCache {
+    public static final String INVALIDATION_BINDING = "userInvalidation-out-0";
+    private static final String METRIC = "keycloak.user.cache";
+    private static final int BROADCAST_QUEUE_SIZE = 1000; // 전송 대기 중인 무효화 최대 건수
+
+    private final KeycloakProperties.UserCache settings;
+    private final StreamBridge streamBridge;
+    private final ExecutorService broadcaster;
+    private final Map<UUID, CachedUser> users = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong(); // 무효화 횟수 - 조회 중 무효화 감지
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter broadcastDropped;
+
+    public UserProfileCache(KeycloakProperties properties, StreamBridge streamBridge, MeterRegistry meterRegistry) {
+        this.settings = properties.getUserCache();
+        this.streamBridge = streamBridge;
+        this.hits = Counter.builder(METRIC).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC).tag("result", "miss").register(meterRegistry);
+        this.broadcastDropped = Counter.builder(METRIC + ".broadcast.dropped").register(meterRegistry);
+        this.broadcaster = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(BROADCAST_QUEUE_SIZE),
+            Thread.ofPlatform().name("user-cache-invalidation").daemon().factory(),
+            (task, executor) -> {
+                broadcastDropped.increment();
+                log.warn("사용자 캐시 무효화 전파 대기열 가득 참 - 다른 인스턴스는 TTL 후 만료");
+            });
+        Gauge.builder(METRIC + ".size", users, Map::size).register(meterRegistry);
+    }
+
+    // 캐시에 있으면 반환, 없거나 만료되었으면 null
+    public UserProfile getIfPresent(UUID userId) {
+        CachedUser cached = users.get(userId);
+        if (cached != null && !cached.isExpired()) {
+            hits.increment();
+            return cached.user();
+        }
+        return null;
+    }
+
+    // 캐시에 없으면 loader 로 조회 후 적재, loader 가 null 을 반환하면(없는 사용자) 적재하지 않는다
+    public UserProfile get(UUID userId, Function<UUID, UserProfile> loader) {
+        UserProfile user = getIfPresent(userId);
+        if (user != null) return user;
+
+        misses.increment();
+        long generation = invalidations.get();
+        user = loader.apply(userId);
+        if (user == null || settings.getMaxSize() <= 0) return user;
+
+        if (users.size() >= settings.getMaxSize()) trim();
+        CachedUser cached = new CachedUser(user, System.nanoTime() + settings.getTtl().toNanos());
+        users.put(userId, cached);
+
+        // 조회 중 무효화 - 무효화가 적재보다 먼저 제거했을 수 있으므로 적재한 항목을 직접 제거
+        if (invalidations.get() != generation) {
+            users.remove(userId, cached);
+        }
+        return user;
+    }
+
+    // 사용자 정보 변경 - 자기 인스턴스에서 제거하고 다른 인스턴스에 전파 (전송을 기다리지 않는다)
+    public void evict(UUID userId) {
+        invalidate(userId);
+        if (!settings.isBroadcast()) return;
+
+        broadcaster.execute(() -> broadcast(userId));
+    }
+
+    private void broadcast(UUID userId) {
+        try {
+            if (!streamBridge.send(INVALIDATION_BINDING, userId)) {
+                log.warn("사용자 캐시 무효화 전파 실패 - userId: {}", userId);
+            }
+        } catch (RuntimeException e) { // 전파에 실패해도 다른 인스턴스의 항목은 TTL 후 만료
+            log.warn("사용자 캐시 무효화 전파 실패 - userId: {}, error: {}", userId, e.getMessage());
+        }
+    }
+
+    // 무효화 토픽 수신 (자기 인스턴스가 보낸 메시지 포함)
+    public void invalidate(UUID userId) {
+        invalidations.incrementAndGet(); // 제거보다 먼저 증가시켜야 조회 중인 적재가 감지한다
+        users.remove(userId);
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        users.clear();
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        broadcaster.shutdown();
+        broadcaster.awaitTermination(5, TimeUnit.SECONDS); // 대기 중인 전파는 최대 5초까지 전송
+    }
+
+    private void trim() {
+        users.values().removeIf(CachedUser::isExpired);
+
+        Iterator<UUID> keys = users.keySet().iterator();
+        int overflow = users.size() - settings.getMaxSize() + Math.max(1, settings.getMaxSize() / 10); // 여유분 10% 확보
+        while (overflow-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private record CachedUser(UserProfile user, long expiresAt) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAt > 0;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.bangbang.userservice.infrastructure.keycloak.config;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.token.TokenManager;
+import org.keycloak.representations.AccessTokenResponse;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keycloak admin 토큰 선제 갱신
+ *  - 웹 서버 기동 전에 admin 로그인
+ *  - 요청 경로에서 갱신하게 되는 시점(만료 - minTokenValidity)보다 먼저 백그라운드에서 갱신
+ *  - refresh token 이 만료되었으면 TokenManager 가 다시 로그인
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(KeycloakProperties.class)
+public class KeycloakAdminTokenRefresher implements SmartLifecycle {
+    private static final double REFRESH_RATIO = 0.8; // 갱신 가능 구간의 80% 시점에 갱신
+    private static final Duration MIN_DELAY = Duration.ofSeconds(1);
+
+    private final KeycloakProperties properties;
+    private final TokenManager tokenManager;
+    private ScheduledExecutorService scheduler;
+
+    public KeycloakAdminTokenRefresher(KeycloakProperties properties, Keycloak keycloak) {
+        this.properties = properties;
+        this.tokenManager = keycloak.tokenManager();
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("keycloak-admin-token").daemon().factory());
+        try {
+            schedule(nextRefresh(tokenManager.getAccessToken()));
+        } catch (RuntimeException e) { // Keycloak 미기동 시에도 서비스는 기동
+            log.warn("Keycloak admin 로그인 실패, 백그라운드에서 재시도 - {}", e.getMessage());
+            schedule(properties.getAdmin().getTokenRetryInterval());
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    // 웹 서버 기동(DEFAULT_PHASE - 1024) 전에 로그인
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    private void refresh() {
+        try {
+            schedule(nextRefresh(tokenManager.refreshToken()));
+        } catch (RuntimeException e) {
+            log.warn("Keycloak admin 토큰 갱신 실패 - {}", e.getMessage());
+            schedule(properties.getAdmin().getTokenRetryInterval());
+        }
+    }
+
+    // 발급 시점부터 (유효 시간 - minTokenValidity) 의 80% 가 지난 시점
+    private Duration nextRefresh(AccessTokenResponse token) {
+        long window = token.getExpiresIn() - properties.getAdmin().getMinTokenValidity().toSeconds();
+        Duration delay = Duration.ofMillis((long) (window * 1000 * REFRESH_RATIO));
+
+        return delay.compareTo(MIN_DELAY) < 0 ? MIN_DELAY : delay;
+    }
+
+    private void schedule(Duration delay) {
+        ScheduledExecutorService current = scheduler;
+        if (current != null && !current.isShutdown()) {
+            current.schedule(this::refresh, delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+}
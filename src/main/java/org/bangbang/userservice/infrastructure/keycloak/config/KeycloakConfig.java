@@ -1,6 +1,11 @@
 package org.bangbang.userservice.infrastructure.keycloak.config;
 
+import jakarta.ws.rs.client.Client;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import org.jboss.resteasy.client.jaxrs.ResteasyClientBuilder;
+import org.keycloak.admin.client.ClientBuilderWrapper;
+import org.keycloak.admin.client.JacksonProvider;
 import org.keycloak.admin.client.Keycloak;
 import org.keycloak.admin.client.KeycloakBuilder;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -15,12 +20,32 @@ public class KeycloakConfig {
 
     @Bean
     public Keycloak keycloak() {
-        return KeycloakBuilder.builder()
+        Keycloak keycloak = KeycloakBuilder.builder()
             .serverUrl(properties.getServerUrl())
             .realm(properties.getRealm())
             .clientId(properties.getClientId())
             .username(properties.getAdminUsername())
             .password(properties.getAdminPassword())
+            .resteasyClient(adminClient())
+            .build();
+        keycloak.tokenManager().setMinTokenValidity(properties.getAdmin().getMinTokenValidity().toSeconds());
+
+        return keycloak;
+    }
+
+    // admin client 용 RESTEasy 클라이언트 (커넥션 풀, 타임아웃 설정)
+    private Client adminClient() {
+        KeycloakProperties.Admin admin = properties.getAdmin();
+        ResteasyClientBuilder builder = (ResteasyClientBuilder) ClientBuilderWrapper.create(null, false);
+
+        return builder
+            .connectionPoolSize(admin.getMaxConnections())
+            .maxPooledPerRoute(admin.getMaxConnectionsPerRoute())
+            .connectTimeout(admin.getConnectTimeout().toMillis(), TimeUnit.MILLISECONDS)
+            .readTimeout(admin.getReadTimeout().toMillis(), TimeUnit.MILLISECONDS)
+            .connectionCheckoutTimeout(admin.getConnectionRequestTimeout().toMillis(), TimeUnit.MILLISECONDS)
+            .connectionTTL(admin.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS)
+            .register(JacksonProvider.class, 100)
             .build();
     }
 }
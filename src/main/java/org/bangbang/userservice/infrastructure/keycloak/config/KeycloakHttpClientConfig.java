@@ -0,0 +1,95 @@
+package org.bangbang.userservice.infrastructure.keycloak.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.net.http.HttpClient;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Keycloak 호출 전용 HTTP 클라이언트
+ *  - 요청마다 새 커넥션을 맺지 않도록 커넥션 풀 + keep-alive 를 공유
+ *  - keycloak.http.http2=true 이면 JDK HttpClient 로 HTTP/2 사용
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(KeycloakProperties.class)
+public class KeycloakHttpClientConfig {
+    private final KeycloakProperties properties;
+
+    @Bean
+    @ConditionalOnProperty(prefix = "keycloak.http", name = "http2", havingValue = "false", matchIfMissing = true)
+    public PoolingHttpClientConnectionManager keycloakConnectionManager() {
+        KeycloakProperties.Http http = properties.getHttp();
+
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+            .setConnectTimeout(Timeout.of(http.getConnectTimeout()))
+            .setSocketTimeout(Timeout.of(http.getReadTimeout()))
+            .setTimeToLive(TimeValue.of(http.getKeepAlive()))
+            .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+            .build();
+
+        return PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(http.getMaxConnections())
+            .setMaxConnPerRoute(http.getMaxConnectionsPerRoute())
+            .setDefaultConnectionConfig(connectionConfig)
+            .build();
+    }
+
+    @Bean
+    public RestClient keycloakRestClient(RestClient.Builder builder,
+                                         ObjectProvider<PoolingHttpClientConnectionManager> connectionManager) {
+        return builder
+            .baseUrl(properties.getServerUrl())
+            .requestFactory(requestFactory(connectionManager.getIfAvailable()))
+            .build();
+    }
+
+    // 커넥션 풀 지표(leased, pending, available) -> Prometheus
+    @Bean
+    public MeterBinder keycloakConnectionPoolMetrics(ObjectProvider<PoolingHttpClientConnectionManager> connectionManager) {
+        return registry -> connectionManager.ifAvailable(cm ->
+            new PoolingHttpClientConnectionManagerMetricsBinder(cm, "keycloak").bindTo(registry));
+    }
+
+    private ClientHttpRequestFactory requestFactory(PoolingHttpClientConnectionManager connectionManager) {
+        KeycloakProperties.Http http = properties.getHttp();
+
+        if (connectionManager == null) { // HTTP/2 - JDK HttpClient 가 내부적으로 커넥션을 재사용
+            HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(http.getConnectTimeout())
+                .build();
+            JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(client);
+            factory.setReadTimeout(http.getReadTimeout());
+            return factory;
+        }
+
+        RequestConfig requestConfig = RequestConfig.custom()
+            .setConnectionRequestTimeout(Timeout.of(http.getConnectionRequestTimeout()))
+            .setResponseTimeout(Timeout.of(http.getReadTimeout()))
+            .build();
+
+        return new HttpComponentsClientHttpRequestFactory(HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(requestConfig)
+            .setKeepAliveStrategy((response, context) -> TimeValue.of(http.getKeepAlive()))
+            .evictIdleConnections(TimeValue.of(http.getKeepAlive()))
+            .build());
+    }
+}
@@ -1,5 +1,6 @@
 package org.bangbang.userservice.infrastructure.keycloak.config;
 
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -12,4 +13,85 @@ public class KeycloakProperties {
     private String clientSecret;
     private String adminUsername;
     private String adminPassword;
+
+    // 토큰 발급 등 Keycloak HTTP 호출용 클라이언트 설정
+    private Http http = new Http();
+
+    // Keycloak admin client 설정
+    private Admin admin = new Admin();
+
+    // Realm Role 캐시 설정
+    private RoleCache roleCache = new RoleCache();
+
+    // 사용자 정보 조회 캐시 설정
+    private UserCache userCache = new UserCache();
+
+    // 회원 가입 설정
+    private Signup signup = new Signup();
+
+    // JWT 서명 검증용 JWK Set 캐시 설정
+    private Jwks jwks = new Jwks();
+
+    // Keycloak 호출 동시 실행 수 적응형 제한 설정
+    private Limiter limiter = new Limiter();
+
+    @Data
+    public static class Http {
+        private int maxConnections = 100; // 전체 커넥션 풀 크기
+        private int maxConnectionsPerRoute = 100; // Keycloak 호스트당 최대 커넥션
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(5);
+        private Duration connectionRequestTimeout = Duration.ofSeconds(1); // 풀에서 커넥션을 얻기까지 최대 대기 시간
+        private Duration keepAlive = Duration.ofSeconds(30); // 유휴 커넥션 유지 시간
+        private boolean http2 = false; // true 이면 JDK HttpClient(HTTP/2)를 사용
+    }
+
+    @Data
+    public static class Admin {
+        private int maxConnections = 50; // 커넥션 풀 크기 (RESTEasy 기본값은 커넥션 1개)
+        private int maxConnectionsPerRoute = 50;
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration readTimeout = Duration.ofSeconds(5);
+        private Duration connectionRequestTimeout = Duration.ofSeconds(1); // 풀에서 커넥션을 얻기까지 최대 대기 시간
+        private Duration keepAlive = Duration.ofSeconds(30); // 풀의 커넥션 유지 시간
+        private Duration minTokenValidity = Duration.ofSeconds(30); // admin 토큰의 남은 유효 시간이 이보다 짧으면 요청 경로에서 갱신
+        private Duration tokenRetryInterval = Duration.ofSeconds(10); // 백그라운드 갱신 실패 시 재시도 간격
+    }
+
+    @Data
+    public static class RoleCache {
+        private Duration ttl = Duration.ofMinutes(10); // 캐시 유지 시간
+        private boolean preload = true; // 기동 시 Realm Role 전체 적재 여부
+    }
+
+    @Data
+    public static class UserCache {
+        private int maxSize = 10000; // 최대 건수 (0 이면 캐시 없이 매번 조회)
+        private Duration ttl = Duration.ofMinutes(5); // 캐시 유지 시간 (무효화 메시지를 놓친 경우의 최대 지연)
+        private boolean broadcast = true; // 변경 시 다른 인스턴스에 무효화 전파 여부
+        private int lookupParallelism = 8; // 일괄 조회 한 건에서 캐시에 없는 사용자를 동시에 조회하는 최대 수 (Keycloak 동시 호출 한도보다 작게)
+    }
+
+    @Data
+    public static class Signup {
+        // 생성 요청에 기본 Role 포함 여부 (true: 포함, false: 별도 호출로 부여, 미설정: 최초 가입 시 Keycloak 지원 여부 확인)
+        private Boolean embeddedRoles;
+    }
+
+    @Data
+    public static class Jwks {
+        private Duration refreshInterval = Duration.ofMinutes(5); // 백그라운드 갱신 주기
+        private Duration retryInterval = Duration.ofSeconds(10); // 갱신 실패 시 재시도 간격
+        private Duration minRefetchInterval = Duration.ofSeconds(10); // 모르는 kid 로 인한 재조회 최소 간격
+    }
+
+    @Data
+    public static class Limiter {
+        private boolean enabled = true;
+        private int initialLimit = 20; // 시작 동시 실행 수
+        private int minLimit = 4;
+        private int maxLimit = 200;
+        private Duration retryAfter = Duration.ofSeconds(1); // 거절 응답의 Retry-After
+        private int maxCallThreads = 200; // Keycloak 호출 스레드 상한 - 제한 시간 초과로 인터럽트된 호출도 read timeout 까지 스레드를 점유
+    }
 }
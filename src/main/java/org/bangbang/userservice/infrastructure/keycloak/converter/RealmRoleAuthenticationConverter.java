@@ -0,0 +1,33 @@
+package org.bangbang.userservice.infrastructure.keycloak.converter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.bangbang.userservice.infrastructure.keycloak.cache.RealmRoleRegistry;
+import org.bangbang.userservice.infrastructure.security.RealmRoleAuthenticationToken;
+import org.bangbang.userservice.infrastructure.security.RoleSet;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * JWT realm_access.roles -> RoleSet (Composite Role 전개) 인증 정보
+ */
+@RequiredArgsConstructor
+public class RealmRoleAuthenticationConverter implements Converter<Jwt, AbstractAuthenticationToken> {
+    private final RealmRoleRegistry registry;
+
+    @Override
+    public AbstractAuthenticationToken convert(Jwt jwt) {
+        RoleSet roles = registry.resolve(realmRoles(jwt));
+
+        return new RealmRoleAuthenticationToken(jwt, roles, registry.authorities(roles), jwt.getSubject());
+    }
+
+    private Collection<?> realmRoles(Jwt jwt) {
+        if (!(jwt.getClaims().get("realm_access") instanceof Map<?, ?> realmAccess)) return List.of();
+
+        return realmAccess.get("roles") instanceof Collection<?> roles ? roles : List.of();
+    }
+}
@@ -0,0 +1,158 @@
+package org.bangbang.userservice.infrastructure.keycloak.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+
+/**
+ * Keycloak 호출 동시 실행 수 적응형 제한 (TCP Vegas 방식) - 작업(operation)별 인스턴스
+ *  - 지연 없는 응답 시간(rttNoLoad)과 현재 응답 시간으로 Keycloak 앞에 쌓인 대기열 크기를 추정
+ *  - 대기열이 작으면 limit 증가, 크면 감소, 시간 초과(drop)는 limit * 0.9
+ *  - limit 을 넘는 호출은 대기하지 않고 즉시 거절 (503 + Retry-After)
+ *  - Keycloak 처리 능력이 바뀌어도 따라가도록 주기적으로 rttNoLoad 를 다시 측정
+ *  - 작업마다 기본 응답 시간이 달라 (비밀번호 해싱 등) 작업별로 따로 측정한다
+ */
+public class KeycloakConcurrencyLimiter {
+    private static final double DROP_RATIO = 0.9;
+    private static final int PROBE_MULTIPLIER = 30; // limit * 30 회 측정마다 rttNoLoad 재측정
+
+    private final KeycloakProperties.Limiter settings;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+    private volatile int limit;
+    private long rttNoLoad; // 지금까지 측정한 최소 응답 시간 (nanos), 0 이면 측정 전
+    private int probeCountdown;
+
+    public KeycloakConcurrencyLimiter(String operation, KeycloakProperties.Limiter settings, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.limit = Math.clamp(settings.getInitialLimit(), settings.getMinLimit(), settings.getMaxLimit());
+        this.probeCountdown = nextProbe(limit);
+
+        Gauge.builder("keycloak.concurrency.limit", this, KeycloakConcurrencyLimiter::getLimit)
+            .description("Keycloak 호출 동시 실행 허용 수")
+            .tag("operation", operation)
+            .register(meterRegistry);
+        Gauge.builder("keycloak.concurrency.inflight", inFlight, AtomicInteger::get)
+            .description("실행 중인 Keycloak 호출 수")
+            .tag("operation", operation)
+            .register(meterRegistry);
+        this.rejected = Counter.builder("keycloak.concurrency.rejected")
+            .description("동시 실행 수 초과로 거절한 Keycloak 호출 수")
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+
+    // 실행 허가, limit 을 넘으면 null
+    public Permit tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (settings.isEnabled() && current >= limit) {
+                rejected.increment();
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Permit(current + 1);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public Duration getRetryAfter() {
+        return settings.getRetryAfter();
+    }
+
+    // 응답 시간 측정값 반영 (계산만 하므로 짧게 잠근다)
+    synchronized void onSample(long rttNanos, int inFlightAtStart, boolean dropped) {
+        if (rttNanos <= 0) return;
+
+        // 시간 초과는 제한 시간만큼의 응답 시간일 뿐이므로 rttNoLoad 측정(재측정 포함)에 쓰지 않는다
+        if (dropped) {
+            limit = Math.clamp((int) (limit * DROP_RATIO), settings.getMinLimit(), settings.getMaxLimit());
+            return;
+        }
+
+        if (--probeCountdown <= 0) { // rttNoLoad 재측정
+            probeCountdown = nextProbe(limit);
+            rttNoLoad = rttNanos;
+            return;
+        }
+
+        if (rttNoLoad == 0 || rttNanos < rttNoLoad) {
+            rttNoLoad = rttNanos;
+            return;
+        }
+
+        int current = limit;
+        if (inFlightAtStart * 2 < current) {
+            return; // limit 의 절반도 쓰지 않는 구간의 응답 시간으로는 판단하지 않는다
+        }
+
+        double log = Math.max(1, Math.log10(current));
+        int queueSize = (int) Math.ceil(current * (1 - (double) rttNoLoad / rttNanos));
+        double newLimit;
+        if (queueSize <= log) {
+            newLimit = current + 6 * log;
+        } else if (queueSize < 3 * log) {
+            newLimit = current + log;
+        } else if (queueSize > 6 * log) {
+            newLimit = current - log;
+        } else {
+            return;
+        }
+
+        limit = Math.clamp((int) newLimit, settings.getMinLimit(), settings.getMaxLimit());
+    }
+
+    private int nextProbe(int limit) {
+        return PROBE_MULTIPLIER * limit + ThreadLocalRandom.current().nextInt(limit + 1); // 인스턴스끼리 동시에 재측정하지 않도록 분산
+    }
+
+    /**
+     * 실행 허가 - 호출이 끝나면 결과에 맞는 메서드를 한 번 호출한다
+     */
+    public final class Permit {
+        private final long startedAt = System.nanoTime();
+        private final int inFlightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(int inFlightAtStart) {
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        // 응답을 받은 호출 (4xx 포함)
+        public void success() {
+            release(false, true);
+        }
+
+        // 시간 초과
+        public void dropped() {
+            release(true, true);
+        }
+
+        // 호출하지 않았거나 응답 시간을 판단할 수 없는 실패 (연결 오류 등)
+        public void ignore() {
+            release(false, false);
+        }
+
+        private void release(boolean dropped, boolean sample) {
+            if (!released.compareAndSet(false, true)) return;
+
+            inFlight.decrementAndGet();
+            if (sample) {
+                onSample(System.nanoTime() - startedAt, inFlightAtStart, dropped);
+            }
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package org.bangbang.userservice.infrastructure.keycloak.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.context.ContextSnapshotFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.ws.rs.WebApplicationException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.bangbang.userservice.application.service.AuthServerUnavailableException;
+import org.bangbang.userservice.application.service.AuthServerUnavailableException.Reason;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * Keycloak 호출 보호 - 작업(operation)별 ConcurrencyLimiter(CircuitBreaker(Bulkhead(TimeLimiter(호출))))
+ *  - ConcurrencyLimiter : 동시 실행 수를 Keycloak 응답 시간에 맞춰 조절, 초과 호출은 즉시 실패 (keycloak.limiter.*)
+ *  - CircuitBreaker : 실패율, 지연 호출 비율이 높으면 호출하지 않고 즉시 실패
+ *  - Bulkhead : 작업별 동시 호출 수 고정 상한 (대기 없이 즉시 실패)
+ *  - TimeLimiter : 제한 시간 초과 시 호출 스레드를 인터럽트하고 실패
+ *    (생성, 비밀번호, Role 부여 등 쓰기는 제외 - Keycloak 에 이미 반영되었을 수 있으므로 HTTP read timeout 까지 결과를 기다린다)
+ *  - 설정은 resilience4j.* (application.yml), 상태는 Actuator(/actuator/circuitbreakers, health)와 Prometheus 로 노출
+ *  - 호출마다 Observation - 작업별 타이머(keycloak.client), 하위 span, 상태 코드별 카운터(keycloak.client.responses)
+ */
+@Component
+@EnableConfigurationProperties(KeycloakProperties.class)
+public class KeycloakResilience implements AutoCloseable {
+    public static final String TOKEN = "keycloak-token"; // 비밀번호 로그인
+    public static final String TOKEN_REFRESH = "keycloak-token-refresh";
+    public static final String USER_CREATE = "keycloak-user-create";
+    public static final String USER_READ = "keycloak-user-read";
+    public static final String USER_LIST = "keycloak-user-list"; // 사용자 목록 페이지 조회 (내보내기)
+    public static final String USER_UPDATE = "keycloak-user-update";
+    public static final String USER_PASSWORD = "keycloak-user-password";
+    public static final String USER_ROLE_READ = "keycloak-user-role-read"; // 사용자 Role 조회
+    public static final String USER_ROLE_WRITE = "keycloak-user-role-write"; // 사용자 Role 부여, 회수
+    public static final String ROLE_READ = "keycloak-role-read"; // Realm Role 조회 (RealmRoleCache 미적중)
+
+    private static final List<String> OPERATIONS = List.of(TOKEN, TOKEN_REFRESH, USER_CREATE, USER_READ, USER_LIST, USER_UPDATE, USER_PASSWORD,
+        USER_ROLE_READ, USER_ROLE_WRITE, ROLE_READ);
+    // 제한 시간으로 중단하지 않는 작업 - 중단해도 Keycloak 에서는 반영될 수 있어 재시도가 409 등으로 실패
+    private static final Set<String> UNCANCELLABLE = Set.of(USER_CREATE, USER_PASSWORD, USER_ROLE_WRITE);
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(3);
+    private static final Duration BULKHEAD_RETRY_AFTER = Duration.ofSeconds(1);
+    private static final String OBSERVATION = "keycloak.client"; // 타이머 keycloak.client{operation,outcome,error}, span
+    private static final String RESPONSES_METRIC = "keycloak.client.responses";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+    private final KeycloakProperties.Limiter limiterSettings;
+    private final MeterRegistry meterRegistry;
+    private final ObservationRegistry observationRegistry;
+    private final Map<String, Guard> guards = new ConcurrentHashMap<>();
+    // Platform Thread 사용 - Keycloak admin client 의 TokenManager 가 synchronized 구간에서 HTTP 호출 (Virtual Thread 고정)
+    // 제한 시간 초과 후 Bulkhead 는 반환되지만 인터럽트된 소켓 I/O 는 read timeout 까지 스레드를 점유하므로 스레드 수를 별도로 제한
+    // (keycloak.limiter.max-call-threads, 초과 시 OVERLOADED)
+    private final ExecutorService executor;
+    private final ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build(); // MDC, Trace 전파
+
+    public KeycloakResilience(CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry, TimeLimiterRegistry timeLimiterRegistry,
+                              KeycloakProperties properties, MeterRegistry meterRegistry, ObservationRegistry observationRegistry) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.timeLimiterRegistry = timeLimiterRegistry;
+        this.limiterSettings = properties.getLimiter();
+        this.meterRegistry = meterRegistry;
+        this.observationRegistry = observationRegistry;
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(limiterSettings.getMaxCallThreads(), limiterSettings.getMaxCallThreads(),
+            60, TimeUnit.SECONDS, new SynchronousQueue<>(), Thread.ofPlatform().name("keycloak-call-", 0).daemon().factory());
+        pool.allowCoreThreadTimeOut(true); // 유휴 스레드는 60초 후 종료
+        this.executor = pool;
+        OPERATIONS.forEach(this::guard); // 첫 호출 전부터 지표, health 에 노출
+    }
+
+    // 기본 설정 (테스트, 벤치마크용) - 제한 시간은 application.yml 의 default 와 같은 3초
+    public static KeycloakResilience ofDefaults() {
+        return new KeycloakResilience(CircuitBreakerRegistry.ofDefaults(),
+            BulkheadRegistry.ofDefaults(),
+            TimeLimiterRegistry.of(TimeLimiterConfig.custom().timeoutDuration(DEFAULT_TIMEOUT).build()),
+            new KeycloakProperties(),
+            new SimpleMeterRegistry(),
+            ObservationRegistry.NOOP);
+    }
+
+    public <T> T call(String operation, Supplier<T> supplier) {
+        Observation observation = Observation.createNotStarted(OBSERVATION, observationRegistry)
+            .contextualName(operation)
+            .lowCardinalityKeyValue("operation", operation)
+            .start();
+
+        try (Observation.Scope scope = observation.openScope()) { // 하위 span - 작업 스레드로 trace 전파
+            T result = execute(operation, supplier);
+            complete(observation, operation, "SUCCESS", "2xx");
+            return result;
+        } catch (RuntimeException | Error e) {
+            observation.error(e);
+            int status = statusOf(e);
+            complete(observation, operation, outcomeOf(e, status), status > 0 ? String.valueOf(status) : null);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    public void run(String operation, Runnable runnable) {
+        call(operation, () -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(String operation, Supplier<T> supplier) {
+        Guard guard = guard(operation);
+        Callable<T> task = snapshotFactory.captureAll().wrap((Callable<T>) supplier::get);
+        Callable<T> limited = UNCANCELLABLE.contains(operation)
+            ? () -> await(executor.submit(task))
+            : TimeLimiter.decorateFutureSupplier(guard.timeLimiter(), () -> executor.submit(task));
+
+        KeycloakConcurrencyLimiter.Permit permit = guard.limiter().tryAcquire();
+        if (permit == null) {
+            throw new AuthServerUnavailableException(Reason.OVERLOADED, operation, guard.limiter().getRetryAfter(), null);
+        }
+
+        try {
+            T result = guard.circuitBreaker().executeCallable(Bulkhead.decorateCallable(guard.bulkhead(), limited));
+            permit.success();
+            return result;
+        } catch (RestClientResponseException | WebApplicationException e) { // 응답을 받은 호출 (4xx, 5xx)
+            permit.success();
+            throw e;
+        } catch (TimeoutException e) {
+            permit.dropped();
+            throw new AuthServerUnavailableException(Reason.TIMEOUT, operation, null, e);
+        } catch (Exception e) {
+            permit.ignore();
+            throw translate(operation, guard, e);
+        } catch (Error e) {
+            permit.ignore();
+            throw e;
+        }
+    }
+
+    // 제한 시간 없이 결과 대기 - 대기 중 인터럽트되어도 호출은 취소하지 않는다
+    private static <T> T await(Future<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error error) throw error;
+            if (cause instanceof Exception exception) throw exception;
+            throw e;
+        }
+    }
+
+    // 타이머의 outcome 태그, 응답을 받았으면 상태 코드별 카운터
+    private void complete(Observation observation, String operation, String outcome, String status) {
+        observation.lowCardinalityKeyValue("outcome", outcome);
+        if (status != null) {
+            Counter.builder(RESPONSES_METRIC)
+                .tag("operation", operation)
+                .tag("status", status)
+                .register(meterRegistry)
+                .increment();
+        }
+    }
+
+    private static int statusOf(Throwable e) {
+        if (e instanceof RestClientResponseException responseException) return responseException.getStatusCode().value();
+        if (e instanceof WebApplicationException webException && webException.getResponse() != null) return webException.getResponse().getStatus();
+        return 0;
+    }
+
+    private static String outcomeOf(Throwable e, int status) {
+        if (status >= 500) return "SERVER_ERROR";
+        if (status >= 400) return "CLIENT_ERROR";
+        if (e instanceof AuthServerUnavailableException unavailable) {
+            return unavailable.getReason() == Reason.TIMEOUT ? "TIMEOUT" : "REJECTED"; // 호출하지 않고 차단
+        }
+        return "ERROR"; // 연결 오류 등 응답 없음
+    }
+
+    private RuntimeException translate(String operation, Guard guard, Exception e) {
+        if (e instanceof CallNotPermittedException) {
+            // OPEN 유지 시간을 재시도 권장 시간으로 안내
+            long waitMillis = guard.circuitBreaker().getCircuitBreakerConfig().getWaitIntervalFunctionInOpenState().apply(1);
+            return new AuthServerUnavailableException(Reason.CIRCUIT_OPEN, operation, Duration.ofMillis(waitMillis), e);
+        }
+        if (e instanceof RejectedExecutionException) { // 호출 스레드 상한 - 응답이 늦은 호출이 스레드를 점유 중
+            return new AuthServerUnavailableException(Reason.OVERLOADED, operation, limiterSettings.getRetryAfter(), e);
+        }
+        if (e instanceof BulkheadFullException) {
+            return new AuthServerUnavailableException(Reason.BULKHEAD_FULL, operation, BULKHEAD_RETRY_AFTER, e);
+        }
+        if (e instanceof InterruptedException) {
+            Thread.currentThread().interrupt();
+            return new IllegalStateException("Keycloak 호출 대기 중 인터럽트되었습니다.", e);
+        }
+        if (e instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(e);
+    }
+
+    private Guard guard(String operation) {
+        return guards.computeIfAbsent(operation, name -> new Guard(new KeycloakConcurrencyLimiter(name, limiterSettings, meterRegistry),
+            circuitBreakerRegistry.circuitBreaker(name),
+            bulkheadRegistry.bulkhead(name),
+            timeLimiterRegistry.timeLimiter(name)));
+    }
+
+    private record Guard(KeycloakConcurrencyLimiter limiter, CircuitBreaker circuitBreaker, Bulkhead bulkhead, TimeLimiter timeLimiter) {}
+}
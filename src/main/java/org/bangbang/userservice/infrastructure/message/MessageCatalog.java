@@ -0,0 +1,250 @@
+package org.bangbang.userservice.infrastructure.message;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.DateFormat;
+import java.text.Format;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 메시지 카탈로그 (MessageUtils 대체)
+ *  - 기동 시 messages.commons, messages.errors, messages.validations 번들을 Locale 별 불변 Map 으로 적재
+ *  - Locale 별 Map 에는 상위 Locale(언어, 기본 번들)의 메시지까지 합쳐 두어 조회는 Map 1회
+ *  - 메시지는 적재 시 MessageFormat 으로 미리 파싱, 조회 시 공유 상태를 변경하지 않는다 (잠금 없음)
+ *  - Locale 은 LocaleContextHolder (요청의 Accept-Language, 요청 밖에서는 기본 Locale)
+ */
+@Slf4j
+@Component
+public class MessageCatalog {
+    private static final int RESOLVED_LIMIT = 64;
+    private static final List<String> BASENAMES = List.of("messages.commons", "messages.errors", "messages.validations"); // 앞의 번들이 우선
+
+    private final Map<Locale, Map<String, Template>> catalog; // Locale -> 코드 -> 메시지 (상위 Locale 포함)
+    private final Map<String, Template> root; // 기본 번들
+    private final Map<Locale, Map<String, Template>> resolved = new ConcurrentHashMap<>(); // 요청 Locale -> 가장 가까운 번들 (최대 RESOLVED_LIMIT 건)
+
+    public MessageCatalog() {
+        this(BASENAMES);
+    }
+
+    MessageCatalog(List<String> basenames) {
+        Map<Locale, Map<String, String>> bundles = load(basenames);
+        Map<Locale, Map<String, Template>> catalog = new HashMap<>();
+        for (Locale locale : bundles.keySet()) {
+            catalog.put(locale, compile(locale, bundles));
+        }
+        this.catalog = Map.copyOf(catalog);
+        this.root = catalog.getOrDefault(Locale.ROOT, Map.of());
+        log.info("메시지 카탈로그 적재 - Locale: {}", catalog.keySet());
+    }
+
+    public String getMessage(String code) {
+        return getMessage(code, null, null);
+    }
+
+    public String getMessage(String code, String defaultMessage) {
+        return getMessage(code, null, defaultMessage);
+    }
+
+    public String getMessage(String code, Object[] args) {
+        return getMessage(code, args, null);
+    }
+
+    // 코드가 없으면 defaultMessage, defaultMessage 도 없으면 빈 문자열
+    public String getMessage(String code, Object[] args, String defaultMessage) {
+        Locale locale = LocaleContextHolder.getLocale();
+        return format(messages(locale), locale, code, args, defaultMessage);
+    }
+
+    // 여러 코드를 같은 Locale 로 한 번에 조회, 없는 코드는 제외
+    public List<String> getMessages(List<String> codes) {
+        if (codes == null) return null;
+
+        Locale locale = LocaleContextHolder.getLocale();
+        Map<String, Template> messages = messages(locale);
+        List<String> result = new ArrayList<>(codes.size());
+        for (String code : codes) {
+            String message = format(messages, locale, code, null, null);
+            if (StringUtils.hasText(message)) {
+                result.add(message);
+            }
+        }
+        return result;
+    }
+
+    // 가장 가까운 번들 (ko_KR -> ko -> 기본), 임의의 Accept-Language 로 캐시가 커지지 않도록 RESOLVED_LIMIT 건까지만 기억
+    private Map<String, Template> messages(Locale locale) {
+        Map<String, Template> messages = resolved.get(locale);
+        if (messages != null) return messages;
+
+        messages = catalog.get(locale);
+        if (messages == null && StringUtils.hasText(locale.getCountry())) {
+            messages = catalog.get(Locale.of(locale.getLanguage()));
+        }
+        if (messages == null) {
+            messages = root;
+        }
+        if (resolved.size() < RESOLVED_LIMIT) {
+            resolved.put(locale, messages);
+        }
+        return messages;
+    }
+
+    private static String format(Map<String, Template> messages, Locale locale, String code, Object[] args, String defaultMessage) {
+        Template template = code == null ? null : messages.get(code);
+        if (template == null) {
+            return Objects.requireNonNullElse(defaultMessage, "");
+        }
+        return template.format(args, locale);
+    }
+
+    // Locale 의 메시지 = 상위 Locale 메시지 + 해당 Locale 메시지 (하위가 우선)
+    private static Map<String, Template> compile(Locale locale, Map<Locale, Map<String, String>> bundles) {
+        Map<String, String> merged = new HashMap<>(bundles.getOrDefault(Locale.ROOT, Map.of()));
+        if (StringUtils.hasText(locale.getCountry())) {
+            merged.putAll(bundles.getOrDefault(Locale.of(locale.getLanguage()), Map.of()));
+        }
+        merged.putAll(bundles.getOrDefault(locale, Map.of()));
+
+        Map<String, Template> templates = new HashMap<>();
+        merged.forEach((code, message) -> templates.put(code, Template.compile(message, locale)));
+        return Map.copyOf(templates);
+    }
+
+    // basename 별 properties 파일 (UTF-8) -> Locale 별 Map
+    private static Map<Locale, Map<String, String>> load(List<String> basenames) {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        Map<Locale, Map<String, String>> bundles = new LinkedHashMap<>();
+
+        for (String basename : basenames) {
+            String path = basename.replace('.', '/');
+            String name = path.substring(path.lastIndexOf('/') + 1);
+            Pattern fileName = Pattern.compile(Pattern.quote(name) + "(?:_([A-Za-z0-9_]+))?\\.properties");
+            try {
+                Map<String, Resource> files = new LinkedHashMap<>();
+                for (Resource resource : resolver.getResources("classpath*:" + path + "*.properties")) {
+                    files.putIfAbsent(resource.getFilename(), resource); // 클래스패스에서 먼저 찾은 파일 사용 (ResourceBundle 과 동일)
+                }
+
+                for (Resource resource : files.values()) {
+                    Matcher matcher = fileName.matcher(Objects.requireNonNull(resource.getFilename()));
+                    if (!matcher.matches()) continue;
+
+                    Locale locale = matcher.group(1) == null ? Locale.ROOT : StringUtils.parseLocale(matcher.group(1));
+                    Map<String, String> messages = bundles.computeIfAbsent(locale, l -> new HashMap<>());
+                    read(resource).forEach(messages::putIfAbsent); // 앞의 basename 이 우선
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("메시지 번들을 읽지 못했습니다: " + basename, e);
+            }
+        }
+
+        bundles.putIfAbsent(Locale.ROOT, Map.of());
+        return bundles;
+    }
+
+    private static Map<String, String> read(Resource resource) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = resource.getInputStream()) {
+            properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+
+        Map<String, String> messages = new HashMap<>();
+        properties.stringPropertyNames().forEach(key -> messages.put(key, properties.getProperty(key)));
+        return messages;
+    }
+
+    /**
+     * 미리 파싱한 메시지
+     *  - 인자 없이 조회하면 원문 그대로 (ResourceBundleMessageSource 와 동일)
+     *  - {0} 형태의 인자만 있으면 문자열 조각과 인자 위치로 분해하여 이어 붙인다
+     *  - {0,number} 처럼 형식이 지정된 인자는 MessageFormat 을 복제하여 사용 (MessageFormat 은 스레드 안전하지 않다)
+     */
+    private record Template(String message, String[] literals, int[] arguments, MessageFormat messageFormat) {
+        private static final char MARK = '\uE000'; // 인자 위치 표시 (Private Use Area)
+
+        static Template compile(String message, Locale locale) {
+            MessageFormat messageFormat;
+            try {
+                messageFormat = new MessageFormat(message, locale);
+            } catch (IllegalArgumentException e) { // MessageFormat 형식이 아니면 원문 그대로
+                return new Template(message, new String[] {message}, new int[0], null);
+            }
+
+            Format[] formats = messageFormat.getFormatsByArgumentIndex();
+            for (Format format : formats) {
+                if (format != null) return new Template(message, null, null, messageFormat);
+            }
+
+            // 인자 i 를 표시 문자로 치환해 포맷하면 따옴표 처리가 끝난 문자열 조각을 얻을 수 있다
+            Object[] marks = new Object[formats.length];
+            for (int i = 0; i < marks.length; i++) {
+                marks[i] = String.valueOf(MARK) + (char) (MARK + 1 + i);
+            }
+            String flattened = messageFormat.format(marks);
+
+            List<String> literals = new ArrayList<>();
+            List<Integer> arguments = new ArrayList<>();
+            int start = 0;
+            for (int i = 0; i < flattened.length() - 1; i++) {
+                if (flattened.charAt(i) == MARK) {
+                    literals.add(flattened.substring(start, i));
+                    arguments.add(flattened.charAt(i + 1) - MARK - 1);
+                    start = i + 2;
+                    i++;
+                }
+            }
+            literals.add(flattened.substring(start));
+
+            return new Template(message, literals.toArray(String[]::new), arguments.stream().mapToInt(Integer::intValue).toArray(), null);
+        }
+
+        String format(Object[] args, Locale locale) {
+            if (args == null || args.length == 0) return message;
+            if (messageFormat != null) return ((MessageFormat) messageFormat.clone()).format(args);
+
+            StringBuilder sb = new StringBuilder(message.length() + 16 * arguments.length);
+            for (int i = 0; i < arguments.length; i++) {
+                sb.append(literals[i]);
+                int index = arguments[i];
+                if (index < args.length) {
+                    sb.append(toString(args[index], locale));
+                } else {
+                    sb.append('{').append(index).append('}'); // MessageFormat 과 동일 - 인자가 없으면 그대로
+                }
+            }
+            return sb.append(literals[arguments.length]).toString();
+        }
+
+        // MessageFormat 의 형식 없는 인자 처리와 동일
+        private static String toString(Object arg, Locale locale) {
+            if (arg == null) return "null";
+            if (arg instanceof String s) return s;
+            if (arg instanceof Number number) return NumberFormat.getInstance(locale).format(number);
+            if (arg instanceof Date date) return DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale).format(date);
+            return arg.toString();
+        }
+    }
+}
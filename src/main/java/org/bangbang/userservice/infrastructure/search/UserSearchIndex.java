@@ -0,0 +1,290 @@
+package org.bangbang.userservice.infrastructure.search;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import lombok.extern.slf4j.Slf4j;
+import org.bangbang.userservice.application.dto.UserProfile;
+import org.bangbang.userservice.application.service.UserExportService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 검색 색인 (GET /users/search - 사용자명, 이메일, 휴대폰 번호 접두어 검색)
+ *  - 기동 후, 이후 syncInterval 마다 Keycloak 전체 사용자로 불변 구간(UserSearchSegment)을 새로 생성
+ *  - 가입, 회원 정보 변경은 변경분(delta)에 반영하고 검색 시 불변 구간보다 우선, mergeThreshold 건이 쌓이면 불변 구간과 병합
+ *  - 재생성 중에는 그때까지의 변경분을 고정(frozen)하여 계속 검색에 사용하고, 이후 변경분은 새 delta 에 쌓는다
+ *  - 첫 생성이 끝나기 전에는 검색할 수 없다 (isReady), user.search.enabled=false 이면 색인을 만들지 않는다 (isEnabled)
+ */
+@Slf4j
+@Component
+public class UserSearchIndex {
+    private static final String METRIC = "user.search.index";
+
+    public enum Field {
+        USERNAME(UserSearchSegment.USERNAME),
+        EMAIL(UserSearchSegment.EMAIL),
+        MOBILE(UserSearchSegment.MOBILE);
+
+        private final int index;
+
+        Field(int index) {
+            this.index = index;
+        }
+    }
+
+    private final UserExportService exportService;
+    private final boolean enabled;
+    private final Duration syncInterval;
+    private final int mergeThreshold;
+    private final MeterRegistry meterRegistry;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock(); // 변경분 반영은 read lock 공유, delta 교체는 write lock
+    private final AtomicBoolean mergeScheduled = new AtomicBoolean();
+    private volatile State state = new State(null, Map.of(), new ConcurrentHashMap<>());
+    private ScheduledExecutorService scheduler;
+
+    public UserSearchIndex(UserExportService exportService,
+                           @Value("${user.search.enabled:true}") boolean enabled,
+                           @Value("${user.search.sync-interval:6h}") Duration syncInterval,
+                           @Value("${user.search.merge-threshold:2000}") int mergeThreshold,
+                           MeterRegistry meterRegistry) {
+        this.exportService = exportService;
+        this.enabled = enabled;
+        this.syncInterval = syncInterval;
+        this.mergeThreshold = mergeThreshold;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder(METRIC + ".size", this, index -> index.state.size())
+            .description("검색 색인 사용자 수 (변경분 포함)")
+            .register(meterRegistry);
+        Gauge.builder(METRIC + ".memory", this, index -> index.state.base() == null ? 0 : index.state.base().memoryBytes())
+            .description("검색 색인 불변 구간 배열 크기")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder(METRIC + ".delta", this, index -> index.state.delta().size() + index.state.frozen().size())
+            .description("불변 구간에 병합되지 않은 변경분 수")
+            .register(meterRegistry);
+    }
+
+    // user.search.enabled=false 이면 색인을 만들지 않는다 (isReady 는 계속 false)
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return state.base() != null;
+    }
+
+    // 가입, 회원 정보 변경 반영
+    public void upsert(UserProfile user) {
+        if (!enabled) return;
+
+        int pending;
+        lock.readLock().lock();
+        try {
+            ConcurrentHashMap<UUID, UserProfile> delta = state.delta();
+            delta.put(user.userId(), user);
+            pending = delta.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (pending >= mergeThreshold && scheduler != null && mergeScheduled.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                mergeScheduled.set(false);
+                rebuild(false);
+            });
+        }
+    }
+
+    /**
+     * @param query  접두어 (대소문자 구분 없음, 휴대폰 번호는 숫자만 비교)
+     * @param field  검색 필드, null 이면 사용자명, 이메일, 휴대폰 번호 순서로 모두
+     * @param fuzzy  접두어 일치가 limit 건보다 적으면 한 글자 다른 접두어까지 검색
+     */
+    public List<UserProfile> search(String query, Field field, int limit, boolean fuzzy) {
+        State current = state;
+        Map<UUID, UserProfile> results = new LinkedHashMap<>();
+        List<Field> fields = field == null ? List.of(Field.values()) : List.of(field);
+
+        for (Field f : fields) {
+            search(current, f.index, query, limit, false, results);
+        }
+        if (fuzzy) {
+            for (Field f : fields) {
+                search(current, f.index, query, limit, true, results);
+            }
+        }
+        return new ArrayList<>(results.values());
+    }
+
+    // 전체 동기화 (Keycloak 전체 사용자로 다시 생성)
+    public void sync() {
+        rebuild(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void syncOnStartup() {
+        if (!enabled) return;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("user-search-index").daemon().factory());
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                sync();
+            } catch (RuntimeException e) { // Keycloak 장애 시 이전 색인 유지, 다음 주기에 재시도
+                log.warn("사용자 검색 색인 동기화 실패: {}", e.getMessage());
+            }
+        }, 0, syncInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    // limit 건이 찰 때까지 변경분과 불변 구간에서 찾아 값 순서로 추가
+    private void search(State current, int field, String query, int limit, boolean fuzzy, Map<UUID, UserProfile> results) {
+        if (results.size() >= limit) return;
+
+        String normalized = UserSearchSegment.normalize(field, query);
+        if (normalized == null || normalized.isEmpty()) return;
+        byte[] bytes = normalized.getBytes(StandardCharsets.UTF_8);
+
+        List<Match> matches = new ArrayList<>();
+        current.delta().values().forEach(user -> match(field, bytes, fuzzy, user, matches));
+        current.frozen().values().forEach(user -> {
+            if (!current.delta().containsKey(user.userId())) match(field, bytes, fuzzy, user, matches);
+        });
+
+        int wanted = limit - results.size();
+        UserSearchSegment base = current.base();
+        if (base != null) {
+            List<Match> found = new ArrayList<>();
+            IntPredicate collector = doc -> {
+                UUID userId = base.id(doc);
+                if (results.containsKey(userId) || current.isOverridden(userId)) return true;
+                found.add(new Match(base.value(doc, field), base.profile(doc)));
+                return found.size() < wanted;
+            };
+            if (fuzzy) base.fuzzy(field, bytes, collector);
+            else base.prefix(field, bytes, collector);
+            matches.addAll(found);
+        }
+
+        matches.sort(Comparator.comparing(Match::value));
+        for (Match match : matches) {
+            if (results.size() >= limit) return;
+            results.putIfAbsent(match.user().userId(), match.user());
+        }
+    }
+
+    private void match(int field, byte[] query, boolean fuzzy, UserProfile user, List<Match> matches) {
+        String value = UserSearchSegment.normalize(field, switch (field) {
+            case UserSearchSegment.USERNAME -> user.username();
+            case UserSearchSegment.EMAIL -> user.email();
+            default -> user.mobile();
+        });
+        if (value == null) return;
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        boolean matched = fuzzy
+            ? UserSearchSegment.sharesFixedPrefix(bytes, 0, bytes.length, query) && UserSearchSegment.prefixWithinOneEdit(bytes, 0, bytes.length, query)
+            : bytes.length >= query.length && Arrays.equals(bytes, 0, query.length, query, 0, query.length);
+        if (matched) {
+            matches.add(new Match(value, user));
+        }
+    }
+
+    // 불변 구간 재생성 - full 이면 Keycloak 전체 조회, 아니면 기존 불변 구간 + 변경분 병합
+    private synchronized void rebuild(boolean full) {
+        State frozen;
+        lock.writeLock().lock();
+        try {
+            State current = state;
+            frozen = new State(current.base(), current.delta(), new ConcurrentHashMap<>());
+            state = frozen;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        UserSearchSegment built;
+        try {
+            UserSearchSegment.Builder builder = new UserSearchSegment.Builder();
+            if (full) {
+                exportService.export(0, builder::add); // 고정한 변경분은 이미 Keycloak 에 반영되어 있다
+            } else {
+                UserSearchSegment base = frozen.base();
+                if (base != null) {
+                    base.forEach(doc -> {
+                        if (!frozen.frozen().containsKey(base.id(doc))) builder.add(base.profile(doc));
+                    });
+                }
+                frozen.frozen().values().forEach(builder::add);
+            }
+            built = builder.build();
+        } catch (RuntimeException e) { // 실패하면 고정한 변경분을 다시 delta 로
+            lock.writeLock().lock();
+            try {
+                ConcurrentHashMap<UUID, UserProfile> delta = new ConcurrentHashMap<>(state.frozen());
+                delta.putAll(state.delta());
+                state = new State(state.base(), Map.of(), delta);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        long elapsed = sample.stop(Timer.builder(METRIC + ".build")
+            .description("검색 색인 생성 시간")
+            .tag("type", full ? "full" : "merge")
+            .register(meterRegistry));
+
+        lock.writeLock().lock();
+        try {
+            state = new State(built, Map.of(), state.delta());
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("사용자 검색 색인 생성 - type: {}, 사용자: {}, 메모리: {}KB, 소요: {}ms",
+            full ? "full" : "merge", built.size(), built.memoryBytes() / 1024, TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    private record Match(String value, UserProfile user) {}
+
+    /**
+     * 검색 시점의 색인 - base (불변 구간) < frozen (재생성 중인 변경분) < delta (최신 변경분)
+     */
+    private record State(UserSearchSegment base, Map<UUID, UserProfile> frozen, ConcurrentHashMap<UUID, UserProfile> delta) {
+        boolean isOverridden(UUID userId) {
+            return delta.containsKey(userId) || frozen.containsKey(userId);
+        }
+
+        int size() {
+            int size = base == null ? 0 : base.size();
+            return size + delta.size() + frozen.size(); // 불변 구간과 겹치는 변경분도 포함한 근사값
+        }
+    }
+}
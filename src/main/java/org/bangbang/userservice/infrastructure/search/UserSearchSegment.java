@@ -0,0 +1,270 @@
+package org.bangbang.userservice.infrastructure.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import org.bangbang.userservice.application.dto.UserProfile;
+
+/**
+ * 사용자 검색 색인의 불변 구간 (전체 동기화, 병합 시 새로 생성)
+ *  - 사용자 필드는 하나의 UTF-8 byte[] 에 이어 붙이고 int[] offset 으로 위치를 기록 (사용자당 객체 없음)
+ *  - 사용자명, 이메일, 휴대폰 번호별로 값 순서로 정렬한 문서 번호 int[] - 접두어 검색은 이진 탐색 후 순차 조회
+ *  - 사용자 ID 는 long[] 2개에 보관
+ *  - 같은 사용자가 여러 번 추가되면 마지막 값만 남긴다 (페이지 조회 중 목록이 밀리는 경우)
+ */
+final class UserSearchSegment {
+    static final int USERNAME = 0;
+    static final int EMAIL = 1;
+    static final int MOBILE = 2;
+    static final int FIRST_NAME = 3;
+    static final int LAST_NAME = 4;
+    static final int SEARCH_FIELDS = 3; // 검색 대상 필드 수 (USERNAME, EMAIL, MOBILE)
+
+    private static final int FIELDS = 5;
+    private static final int FUZZY_FIXED_PREFIX = 2; // 오타 검색은 앞 2글자가 같은 값 중에서만
+    private static final int FUZZY_SCAN_LIMIT = 4096; // 오타 검색 1회에 비교하는 최대 값 수
+
+    private final long[] msb; // 문서 -> 사용자 ID 상위 64bit
+    private final long[] lsb;
+    private final byte[] data; // 문서별 필드 값 (UTF-8)
+    private final int[] offsets; // 문서 * FIELDS + 필드 -> data 시작 위치
+    private final int[] byId; // 사용자 ID 순서로 정렬한 문서 번호 (중복 제거 후 남은 문서)
+    private final int[][] sorted; // 검색 필드 -> 값 순서로 정렬한 문서 번호
+
+    private UserSearchSegment(long[] msb, long[] lsb, byte[] data, int[] offsets, int[] byId, int[][] sorted) {
+        this.msb = msb;
+        this.lsb = lsb;
+        this.data = data;
+        this.offsets = offsets;
+        this.byId = byId;
+        this.sorted = sorted;
+    }
+
+    int size() {
+        return byId.length;
+    }
+
+    // 배열 크기 합계 (bytes)
+    long memoryBytes() {
+        long bytes = (long) msb.length * Long.BYTES * 2 + data.length + (long) offsets.length * Integer.BYTES + (long) byId.length * Integer.BYTES;
+        for (int[] docs : sorted) {
+            bytes += (long) docs.length * Integer.BYTES;
+        }
+        return bytes;
+    }
+
+    UUID id(int doc) {
+        return new UUID(msb[doc], lsb[doc]);
+    }
+
+    String value(int doc, int field) {
+        int from = offsets[doc * FIELDS + field];
+        int to = offsets[doc * FIELDS + field + 1];
+        return from == to ? null : new String(data, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    UserProfile profile(int doc) {
+        return new UserProfile(id(doc), value(doc, USERNAME), value(doc, EMAIL), value(doc, FIRST_NAME), value(doc, LAST_NAME), value(doc, MOBILE));
+    }
+
+    // 모든 문서 (중복 제거 후)
+    void forEach(IntConsumer consumer) {
+        for (int doc : byId) {
+            consumer.accept(doc);
+        }
+    }
+
+    // query 로 시작하는 값의 문서를 값 순서로 전달, consumer 가 false 를 반환하면 중단
+    void prefix(int field, byte[] query, IntPredicate consumer) {
+        int[] docs = sorted[field];
+        for (int i = lowerBound(docs, field, query, query.length); i < docs.length; i++) {
+            int doc = docs[i];
+            int from = offsets[doc * FIELDS + field];
+            int to = offsets[doc * FIELDS + field + 1];
+            if (to - from < query.length || !Arrays.equals(data, from, from + query.length, query, 0, query.length)) return;
+            if (!consumer.test(doc)) return;
+        }
+    }
+
+    // 접두어가 query 와 한 글자(삽입, 삭제, 교체, 인접 교환)만 다른 값의 문서를 전달 - 정확히 일치하는 접두어 포함
+    void fuzzy(int field, byte[] query, IntPredicate consumer) {
+        if (query.length <= FUZZY_FIXED_PREFIX) return;
+
+        int[] docs = sorted[field];
+        int scanned = 0;
+        for (int i = lowerBound(docs, field, query, FUZZY_FIXED_PREFIX); i < docs.length && scanned++ < FUZZY_SCAN_LIMIT; i++) {
+            int doc = docs[i];
+            int from = offsets[doc * FIELDS + field];
+            int to = offsets[doc * FIELDS + field + 1];
+            if (!sharesFixedPrefix(data, from, to, query)) return;
+            if (prefixWithinOneEdit(data, from, to, query) && !consumer.test(doc)) return;
+        }
+    }
+
+    // 오타 검색 대상인지 - value[from, to) 의 앞 FUZZY_FIXED_PREFIX 바이트가 query 와 같은지 (변경분 검색도 같은 규칙)
+    static boolean sharesFixedPrefix(byte[] value, int from, int to, byte[] query) {
+        return query.length > FUZZY_FIXED_PREFIX && to - from >= FUZZY_FIXED_PREFIX
+            && Arrays.equals(value, from, from + FUZZY_FIXED_PREFIX, query, 0, FUZZY_FIXED_PREFIX);
+    }
+
+    // value[from, to) 의 어떤 접두어가 query 와 편집 거리 1 이하인지
+    static boolean prefixWithinOneEdit(byte[] value, int from, int to, byte[] query) {
+        int i = 0;
+        int j = from;
+        while (i < query.length && j < to && query[i] == value[j]) {
+            i++;
+            j++;
+        }
+        if (i == query.length) return true; // 접두어 일치
+        if (i == query.length - 1) return true; // 마지막 글자만 다르거나 값이 짧음 (교체, 삭제)
+
+        return startsWith(value, j + 1, to, query, i + 1) // 교체
+            || startsWith(value, j, to, query, i + 1) // query 에 글자가 더 있음
+            || startsWith(value, j + 1, to, query, i) // query 에 글자가 빠짐
+            || (j + 1 < to && query[i] == value[j + 1] && query[i + 1] == value[j] && startsWith(value, j + 2, to, query, i + 2)); // 인접 교환
+    }
+
+    static String normalize(int field, String value) {
+        if (value == null) return null;
+        return switch (field) {
+            case USERNAME, EMAIL -> value.trim().toLowerCase(Locale.ROOT);
+            case MOBILE -> value.replaceAll("[^0-9]", "");
+            default -> value;
+        };
+    }
+
+    private static boolean startsWith(byte[] value, int from, int to, byte[] query, int queryFrom) {
+        int length = query.length - queryFrom;
+        return from <= to && to - from >= length && Arrays.equals(value, from, from + length, query, queryFrom, query.length);
+    }
+
+    // 값의 앞 length 바이트가 query 의 앞 length 바이트 이상인 첫 위치
+    private int lowerBound(int[] docs, int field, byte[] query, int length) {
+        int low = 0;
+        int high = docs.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int doc = docs[mid];
+            int from = offsets[doc * FIELDS + field];
+            int to = offsets[doc * FIELDS + field + 1];
+            if (Arrays.compareUnsigned(data, from, to, query, 0, length) < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /**
+     * 색인 생성 - 추가 순서대로 배열에 이어 붙이고 build 에서 정렬
+     */
+    static final class Builder {
+        private long[] msb = new long[1024];
+        private long[] lsb = new long[1024];
+        private byte[] data = new byte[64 * 1024];
+        private int[] offsets = new int[1024 * FIELDS + 1];
+        private int docs;
+        private int length;
+
+        Builder add(UserProfile user) {
+            if (docs == msb.length) {
+                msb = Arrays.copyOf(msb, docs * 2);
+                lsb = Arrays.copyOf(lsb, docs * 2);
+                offsets = Arrays.copyOf(offsets, docs * 2 * FIELDS + 1);
+            }
+
+            msb[docs] = user.userId().getMostSignificantBits();
+            lsb[docs] = user.userId().getLeastSignificantBits();
+            int base = docs * FIELDS;
+            append(base + USERNAME, normalize(USERNAME, user.username()));
+            append(base + EMAIL, normalize(EMAIL, user.email()));
+            append(base + MOBILE, normalize(MOBILE, user.mobile()));
+            append(base + FIRST_NAME, user.firstName());
+            append(base + LAST_NAME, user.lastName());
+            docs++;
+            return this;
+        }
+
+        UserSearchSegment build() {
+            long[] msb = Arrays.copyOf(this.msb, docs);
+            long[] lsb = Arrays.copyOf(this.lsb, docs);
+            int[] offsets = Arrays.copyOf(this.offsets, docs * FIELDS + 1);
+            byte[] data = Arrays.copyOf(this.data, length);
+
+            // 사용자 ID 순서 정렬 (같은 ID 는 나중에 추가한 문서가 뒤), 중복은 마지막 문서만 남긴다
+            int[] byId = sequence(docs);
+            sort(byId, (a, b) -> {
+                int cmp = Long.compare(msb[a], msb[b]);
+                if (cmp == 0) cmp = Long.compare(lsb[a], lsb[b]);
+                return cmp != 0 ? cmp : Integer.compare(a, b);
+            });
+            int unique = 0;
+            for (int i = 0; i < byId.length; i++) {
+                int doc = byId[i];
+                boolean last = i + 1 == byId.length || msb[byId[i + 1]] != msb[doc] || lsb[byId[i + 1]] != lsb[doc];
+                if (last) byId[unique++] = doc;
+            }
+            byId = Arrays.copyOf(byId, unique);
+
+            int[][] sorted = new int[SEARCH_FIELDS][];
+            for (int field = 0; field < SEARCH_FIELDS; field++) {
+                int f = field;
+                int[] docs = byId.clone();
+                sort(docs, (a, b) -> Arrays.compareUnsigned(data, offsets[a * FIELDS + f], offsets[a * FIELDS + f + 1],
+                    data, offsets[b * FIELDS + f], offsets[b * FIELDS + f + 1]));
+                sorted[field] = docs;
+            }
+
+            return new UserSearchSegment(msb, lsb, data, offsets, byId, sorted);
+        }
+
+        private void append(int index, String value) {
+            byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+            if (length + bytes.length > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + bytes.length));
+            }
+            offsets[index] = length;
+            System.arraycopy(bytes, 0, data, length, bytes.length);
+            length += bytes.length;
+            offsets[index + 1] = length;
+        }
+
+        private static int[] sequence(int size) {
+            int[] docs = new int[size];
+            for (int i = 0; i < size; i++) {
+                docs[i] = i;
+            }
+            return docs;
+        }
+
+        // int[] 병합 정렬 (박싱 없이 문서 번호 비교)
+        private static void sort(int[] docs, IntComparator comparator) {
+            int[] buffer = new int[docs.length];
+            int[] src = docs;
+            int[] dst = buffer;
+            for (int width = 1; width < docs.length; width *= 2) {
+                for (int low = 0; low < docs.length; low += 2 * width) {
+                    int mid = Math.min(low + width, docs.length);
+                    int high = Math.min(low + 2 * width, docs.length);
+                    int i = low;
+                    int j = mid;
+                    for (int k = low; k < high; k++) {
+                        dst[k] = i < mid && (j >= high || comparator.compare(src[i], src[j]) <= 0) ? src[i++] : src[j++];
+                    }
+                }
+                int[] swap = src;
+                src = dst;
+                dst = swap;
+            }
+            if (src != docs) {
+                System.arraycopy(src, 0, docs, 0, docs.length);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface IntComparator {
+        int compare(int a, int b);
+    }
+}
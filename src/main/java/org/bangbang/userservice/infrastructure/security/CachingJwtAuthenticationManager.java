@@ -0,0 +1,115 @@
+package org.bangbang.userservice.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.ProviderNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+/**
+ * 검증된 JWT 캐시
+ *  - 같은 토큰으로 반복 요청하면 서명 검증(JwtDecoder)과 권한 변환(JwtAuthenticationConverter)을 생략
+ *  - 토큰 원문 대신 SHA-256 digest 를 키로 보관, 토큰의 exp 시각에 만료
+ *  - 최대 maxSize 건, 가득 차면 만료된 항목을 정리하고 그래도 부족하면 임의의 항목을 제거
+ */
+public class CachingJwtAuthenticationManager implements AuthenticationManager {
+    private static final String METRIC = "security.jwt.cache";
+
+    private final AuthenticationProvider delegate; // JwtAuthenticationProvider
+    private final int maxSize;
+    private final Clock clock;
+    private final Map<String, CachedJwt> cache = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public CachingJwtAuthenticationManager(AuthenticationProvider delegate, int maxSize, MeterRegistry meterRegistry) {
+        this(delegate, maxSize, meterRegistry, Clock.systemUTC());
+    }
+
+    CachingJwtAuthenticationManager(AuthenticationProvider delegate, int maxSize, MeterRegistry meterRegistry, Clock clock) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.hits = Counter.builder(METRIC).tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC).tag("result", "miss").register(meterRegistry);
+        Gauge.builder(METRIC + ".size", cache, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        // AuthenticationManager Bean 으로도 노출되므로 Bearer 토큰 외에는 ProviderManager 처럼 거부
+        if (!(authentication instanceof BearerTokenAuthenticationToken bearer)) {
+            throw new ProviderNotFoundException("Bearer 토큰 인증만 지원합니다: " + authentication.getClass().getName());
+        }
+        if (maxSize <= 0) return delegate.authenticate(bearer);
+
+        String key = digest(bearer.getToken());
+        Instant now = clock.instant();
+        CachedJwt cached = cache.get(key);
+        if (cached != null && now.isBefore(cached.expiresAt())) {
+            hits.increment();
+            JwtAuthenticationToken token = cached.roles() != null
+                ? new RealmRoleAuthenticationToken(cached.jwt(), cached.roles(), cached.authorities(), cached.name())
+                : new JwtAuthenticationToken(cached.jwt(), cached.authorities(), cached.name());
+            token.setDetails(bearer.getDetails());
+            return token;
+        }
+
+        misses.increment();
+        Authentication result = delegate.authenticate(bearer);
+        if (result instanceof JwtAuthenticationToken token && token.getToken().getExpiresAt() != null) {
+            if (cache.size() >= maxSize) evict(now);
+            RoleSet roles = token instanceof RealmRoleAuthenticationToken realmRoleToken ? realmRoleToken.getRoles() : null;
+            cache.put(key, new CachedJwt(token.getToken(), roles, token.getAuthorities(), token.getName(), token.getToken().getExpiresAt()));
+        }
+
+        return result;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    private void evict(Instant now) {
+        cache.values().removeIf(cached -> !now.isBefore(cached.expiresAt()));
+
+        Iterator<String> keys = cache.keySet().iterator();
+        int overflow = cache.size() - maxSize + Math.max(1, maxSize / 10); // 여유분 10% 확보
+        while (overflow-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record CachedJwt(Jwt jwt, RoleSet roles, Collection<GrantedAuthority> authorities, String name, Instant expiresAt) {}
+}
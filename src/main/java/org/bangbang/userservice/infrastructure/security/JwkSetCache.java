@@ -0,0 +1,167 @@
+package org.bangbang.userservice.infrastructure.security;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.net.URI;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.extern.slf4j.Slf4j;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.web.client.RestClient;
+
+/**
+ * JWT 서명 검증용 JWK Set 캐시
+ *  - 웹 서버가 요청을 받기 전에 Key Set 을 적재 (첫 요청이 JWKS 조회를 기다리지 않도록)
+ *  - refreshInterval 마다 백그라운드에서 갱신, 실패하면 retryInterval 후 재시도
+ *  - 처음 보는 kid (키 교체) 는 즉시 재조회하되, 동시 요청이 몰려도 조회는 1회 (minRefetchInterval 내 재조회 없음)
+ *  - 조회에 실패하면 마지막으로 성공한 Key Set 을 계속 사용
+ */
+@Slf4j
+public class JwkSetCache implements JWKSource<SecurityContext>, SmartLifecycle {
+    private static final String REFRESH_METRIC = "security.jwks.refresh";
+    private static final String UNKNOWN_KID = "unknown-kid";
+
+    private final URI uri;
+    private final KeycloakProperties.Jwks settings;
+    private final RestClient restClient;
+    private final MeterRegistry meterRegistry;
+    private final AtomicReference<CompletableFuture<JWKSet>> inFlight = new AtomicReference<>();
+    private volatile JWKSet jwkSet; // 마지막으로 조회에 성공한 Key Set
+    private volatile long fetchedAt; // jwkSet 조회 시각 (nanoTime)
+    private volatile long lastKidRefetch = System.nanoTime() - Long.MAX_VALUE / 2; // 모르는 kid 로 인한 마지막 재조회 완료 시각 (nanoTime)
+    private ScheduledExecutorService scheduler;
+
+    public JwkSetCache(URI uri, KeycloakProperties.Jwks settings, RestClient restClient, MeterRegistry meterRegistry) {
+        this.uri = uri;
+        this.settings = settings;
+        this.restClient = restClient;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("security.jwks.age", this, c -> c.jwkSet == null ? Double.NaN : (System.nanoTime() - c.fetchedAt) / 1e9)
+            .description("마지막 JWK Set 조회 후 경과 시간")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder("security.jwks.keys", this, c -> c.jwkSet == null ? 0 : c.jwkSet.size())
+            .register(meterRegistry);
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector selector, SecurityContext context) {
+        JWKSet current = jwkSet;
+        List<JWK> keys = select(selector, current);
+        if (!keys.isEmpty()) return keys;
+
+        long refetchedAt = lastKidRefetch; // 재조회는 jwkSet 다음에 lastKidRefetch 를 기록하므로 반드시 먼저 읽는다
+        if (jwkSet != current) return select(selector, jwkSet); // 그 사이 다른 요청이 갱신
+        if (current != null && System.nanoTime() - refetchedAt < settings.getMinRefetchInterval().toNanos()) return keys;
+
+        try {
+            return select(selector, refresh(UNKNOWN_KID));
+        } catch (RuntimeException e) {
+            log.warn("JWK Set 조회 실패 - {}", e.getMessage());
+            return select(selector, jwkSet);
+        }
+    }
+
+    // Key Set 조회, 이미 조회 중이면 그 결과를 기다린다
+    public JWKSet refresh(String reason) {
+        CompletableFuture<JWKSet> mine = new CompletableFuture<>();
+        CompletableFuture<JWKSet> running = inFlight.compareAndExchange(null, mine);
+        if (running != null) return running.join();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            JWKSet loaded = JWKSet.parse(restClient.get().uri(uri).retrieve().body(String.class));
+            jwkSet = loaded;
+            fetchedAt = System.nanoTime();
+            sample.stop(timer(reason, "success"));
+            mine.complete(loaded);
+            return loaded;
+        } catch (ParseException | RuntimeException e) {
+            sample.stop(timer(reason, "failure"));
+            IllegalStateException failure = new IllegalStateException("JWK Set 조회 실패: " + uri, e);
+            mine.completeExceptionally(failure);
+            throw failure;
+        } finally {
+            if (UNKNOWN_KID.equals(reason)) lastKidRefetch = System.nanoTime();
+            inFlight.set(null);
+        }
+    }
+
+    public JWKSet getJwkSet() {
+        return jwkSet;
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("jwks-refresh").daemon().factory());
+        try {
+            JWKSet loaded = refresh("startup");
+            log.info("JWK Set 적재 - {}, keys: {}", uri, loaded.size());
+            schedule(settings.getRefreshInterval());
+        } catch (RuntimeException e) {
+            log.warn("기동 시 JWK Set 적재 실패, 백그라운드에서 재시도 - {}", e.getMessage());
+            schedule(settings.getRetryInterval());
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    // 웹 서버 기동(DEFAULT_PHASE - 1024) 전에 적재
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    private void schedule(Duration delay) {
+        ScheduledExecutorService current = scheduler;
+        if (current != null && !current.isShutdown()) {
+            current.schedule(this::refreshInBackground, delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void refreshInBackground() {
+        try {
+            refresh("scheduled");
+            schedule(settings.getRefreshInterval());
+        } catch (RuntimeException e) {
+            log.warn("JWK Set 갱신 실패, 마지막 Key Set 유지 - {}", e.getMessage());
+            schedule(settings.getRetryInterval());
+        }
+    }
+
+    private List<JWK> select(JWKSelector selector, JWKSet set) {
+        return set == null ? List.of() : selector.select(set);
+    }
+
+    private Timer timer(String reason, String result) {
+        return Timer.builder(REFRESH_METRIC)
+            .tag("reason", reason)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,62 @@
+package org.bangbang.userservice.infrastructure.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.RestClient;
+
+/**
+ * JwkSetCache 를 사용하는 JwtDecoder (기본 JwtDecoder 대체)
+ *  - JWKS 주소 : spring.security.oauth2.resourceserver.jwt.jwk-set-uri, 미설정 시 Realm certs 엔드포인트
+ *  - issuer-uri 가 설정되어 있으면 iss 클레임도 검증
+ */
+@Configuration
+@EnableConfigurationProperties({KeycloakProperties.class, OAuth2ResourceServerProperties.class})
+public class JwtDecoderConfig {
+
+    @Bean
+    public JwkSetCache jwkSetCache(KeycloakProperties properties,
+                                   OAuth2ResourceServerProperties resourceServerProperties,
+                                   RestClient keycloakRestClient,
+                                   MeterRegistry meterRegistry) {
+        String uri = resourceServerProperties.getJwt().getJwkSetUri();
+        if (!StringUtils.hasText(uri)) {
+            uri = properties.getServerUrl() + "/realms/" + properties.getRealm() + "/protocol/openid-connect/certs";
+        }
+
+        return new JwkSetCache(URI.create(uri), properties.getJwks(), keycloakRestClient, meterRegistry);
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(JwkSetCache jwkSetCache, OAuth2ResourceServerProperties resourceServerProperties) {
+        OAuth2ResourceServerProperties.Jwt jwt = resourceServerProperties.getJwt();
+        Set<JWSAlgorithm> algorithms = jwt.getJwsAlgorithms().stream()
+            .map(JWSAlgorithm::parse)
+            .collect(Collectors.toSet());
+
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithms, jwkSetCache));
+        processor.setJWTClaimsSetVerifier((claims, context) -> {}); // 클레임 검증은 아래 JwtValidator 에서 수행
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(StringUtils.hasText(jwt.getIssuerUri())
+            ? JwtValidators.createDefaultWithIssuer(jwt.getIssuerUri())
+            : JwtValidators.createDefault());
+
+        return decoder;
+    }
+}
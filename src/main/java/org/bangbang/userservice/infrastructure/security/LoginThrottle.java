@@ -0,0 +1,55 @@
+package org.bangbang.userservice.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import org.bangbang.userservice.application.service.LoginThrottledException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 시도 제한 - Keycloak 에 전달하기 전에 사용자명, 클라이언트 IP 별 Token Bucket 으로 검사
+ *  - 특정 계정에 몰리는 대입 공격(credential stuffing)이 Keycloak 의 비밀번호 해싱 자원을 소모하지 않도록 로컬에서 거절
+ *  - IP 를 먼저 검사하여 IP 에서 거절된 요청은 사용자명의 토큰을 소모하지 않는다
+ */
+@Component
+public class LoginThrottle {
+    private static final String METRIC = "user.login.throttled";
+
+    private final TokenBucketTable usernames;
+    private final TokenBucketTable clientIps;
+    private final Counter usernameRejected;
+    private final Counter clientIpRejected;
+
+    public LoginThrottle(@Value("${user.security.login-throttle.username.capacity:5}") int usernameCapacity,
+                         @Value("${user.security.login-throttle.username.refill-period:1m}") Duration usernameRefillPeriod,
+                         @Value("${user.security.login-throttle.ip.capacity:20}") int ipCapacity,
+                         @Value("${user.security.login-throttle.ip.refill-period:1m}") Duration ipRefillPeriod,
+                         @Value("${user.security.login-throttle.max-entries:100000}") int maxEntries,
+                         MeterRegistry meterRegistry) {
+        this.usernames = new TokenBucketTable(usernameCapacity, usernameRefillPeriod, maxEntries, Clock.systemUTC());
+        this.clientIps = new TokenBucketTable(ipCapacity, ipRefillPeriod, maxEntries, Clock.systemUTC());
+        this.usernameRejected = Counter.builder(METRIC).tag("key", "username").register(meterRegistry);
+        this.clientIpRejected = Counter.builder(METRIC).tag("key", "ip").register(meterRegistry);
+        Gauge.builder("user.login.throttle.entries", usernames, TokenBucketTable::size).tag("key", "username").register(meterRegistry);
+        Gauge.builder("user.login.throttle.entries", clientIps, TokenBucketTable::size).tag("key", "ip").register(meterRegistry);
+    }
+
+    // 허용되지 않으면 LoginThrottledException
+    public void check(String username, String clientIp) {
+        long waitMillis = clientIps.tryConsume(clientIp);
+        if (waitMillis > 0) {
+            clientIpRejected.increment();
+            throw new LoginThrottledException(Duration.ofMillis(waitMillis));
+        }
+
+        waitMillis = usernames.tryConsume(username.toLowerCase(Locale.ROOT)); // Keycloak 사용자명은 대소문자 구분 없음
+        if (waitMillis > 0) {
+            usernameRejected.increment();
+            throw new LoginThrottledException(Duration.ofMillis(waitMillis));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.bangbang.userservice.infrastructure.security;
+
+import java.util.Collection;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+/**
+ * Realm Role 을 RoleSet 으로 함께 보관하는 JWT 인증 정보
+ *  - authorities 는 RealmRoleRegistry 가 공유하는 GrantedAuthority 목록 (기존 문자열 비교 호환)
+ */
+@Getter
+public class RealmRoleAuthenticationToken extends JwtAuthenticationToken {
+    private final RoleSet roles;
+
+    public RealmRoleAuthenticationToken(Jwt jwt, RoleSet roles, Collection<? extends GrantedAuthority> authorities, String name) {
+        super(jwt, authorities, name);
+        this.roles = roles;
+    }
+}
@@ -0,0 +1,46 @@
+package org.bangbang.userservice.infrastructure.security;
+
+import java.util.function.Supplier;
+import org.bangbang.userservice.infrastructure.keycloak.cache.RealmRoleRegistry;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+/**
+ * URL 접근 Role 검사 (hasRole 대체)
+ *  - RealmRoleAuthenticationToken 이면 RoleSet 비트 검사, 그 외 인증 정보는 GrantedAuthority 문자열 비교
+ */
+public final class RealmRoleAuthorizationManager<T> implements AuthorizationManager<T> {
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final int index;
+    private final String authority;
+
+    private RealmRoleAuthorizationManager(int index, String authority) {
+        this.index = index;
+        this.authority = authority;
+    }
+
+    // role : USER, ADMIN (ROLE_ 접두사 없이)
+    public static <T> RealmRoleAuthorizationManager<T> hasRole(RealmRoleRegistry registry, String role) {
+        String authority = "ROLE_" + role;
+        return new RealmRoleAuthorizationManager<>(registry.indexOf(authority), authority);
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, T object) {
+        return hasRole(authentication.get(), index, authority) ? GRANTED : DENIED;
+    }
+
+    private static boolean hasRole(Authentication authentication, int index, String authority) {
+        if (authentication == null || !authentication.isAuthenticated()) return false;
+        if (authentication instanceof RealmRoleAuthenticationToken token) return token.getRoles().contains(index);
+
+        for (GrantedAuthority granted : authentication.getAuthorities()) {
+            if (authority.equals(granted.getAuthority())) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,74 @@
+package org.bangbang.userservice.infrastructure.security;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.aopalliance.intercept.MethodInvocation;
+import org.bangbang.userservice.infrastructure.keycloak.cache.RealmRoleRegistry;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.MethodExecutor;
+import org.springframework.expression.MethodResolver;
+import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionOperations;
+import org.springframework.security.core.Authentication;
+
+/**
+ * 메서드 보안(@PreAuthorize 등)의 hasRole, hasAnyRole, hasAuthority, hasAnyAuthority 를 RoleSet 비트 검사로 수행
+ *  - SpEL root 는 기본 MethodSecurityExpressionRoot 그대로 (principal, permitAll 등 사용 가능)
+ *  - SecurityExpressionRoot 의 hasRole 등은 final 이므로 재정의 대신 SpEL MethodResolver 로 이 4개 메서드만 가로챈다
+ */
+public class RealmRoleMethodSecurityExpressionHandler extends DefaultMethodSecurityExpressionHandler {
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final Set<String> ROLE_METHODS = Set.of("hasRole", "hasAnyRole", "hasAuthority", "hasAnyAuthority");
+
+    private final RealmRoleRegistry registry;
+    private final MethodResolver roleMethodResolver = this::resolveRoleMethod;
+
+    public RealmRoleMethodSecurityExpressionHandler(RealmRoleRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public EvaluationContext createEvaluationContext(Supplier<Authentication> authentication, MethodInvocation mi) {
+        StandardEvaluationContext context = (StandardEvaluationContext) super.createEvaluationContext(authentication, mi);
+        context.addMethodResolver(roleMethodResolver); // 기본 ReflectiveMethodResolver 보다 먼저
+
+        return context;
+    }
+
+    // 파싱된 식이 MethodExecutor 를 캐시하므로 상태 없이 실행 시점의 root(target) 로 판단
+    private MethodExecutor resolveRoleMethod(EvaluationContext context, Object target, String name, List<TypeDescriptor> argumentTypes) {
+        if (!(target instanceof MethodSecurityExpressionOperations) || !ROLE_METHODS.contains(name) || argumentTypes.isEmpty()) return null;
+        if (!name.startsWith("hasAny") && argumentTypes.size() != 1) return null;
+        for (TypeDescriptor argumentType : argumentTypes) {
+            if (argumentType == null || !String.class.equals(argumentType.getType())) return null;
+        }
+
+        return (ctx, root, arguments) -> new TypedValue(check((MethodSecurityExpressionOperations) root, name, arguments));
+    }
+
+    private boolean check(MethodSecurityExpressionOperations root, String name, Object[] arguments) {
+        for (Object argument : arguments) {
+            String value = (String) argument;
+            boolean granted = name.endsWith("Role") ? hasRole(root, value) : hasAuthority(root, value);
+            if (granted) return true;
+        }
+        return false;
+    }
+
+    private boolean hasRole(MethodSecurityExpressionOperations root, String role) {
+        if (!(root.getAuthentication() instanceof RealmRoleAuthenticationToken token)) return root.hasRole(role);
+
+        return token.getRoles().contains(registry.roleIndex(role));
+    }
+
+    // Role 이 아닌 권한(SCOPE_ 등)은 기본 동작
+    private boolean hasAuthority(MethodSecurityExpressionOperations root, String authority) {
+        if (!authority.startsWith(ROLE_PREFIX)) return root.hasAuthority(authority);
+
+        return hasRole(root, authority);
+    }
+}
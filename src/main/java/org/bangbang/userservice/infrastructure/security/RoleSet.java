@@ -0,0 +1,88 @@
+package org.bangbang.userservice.infrastructure.security;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Realm Role 집합 (RealmRoleRegistry 의 Role 번호를 비트로 표현)
+ *  - Role 이 64개 이하이면 long 하나로 표현되고 Role 검사는 비트 검사 1회
+ *  - 불변 객체
+ */
+public final class RoleSet {
+    public static final RoleSet EMPTY = new RoleSet(new long[0]);
+
+    private final long[] words;
+
+    private RoleSet(long[] words) {
+        this.words = words;
+    }
+
+    public boolean contains(int index) {
+        int word = index >>> 6;
+        return index >= 0 && word < words.length && (words[word] & (1L << index)) != 0;
+    }
+
+    public boolean containsAny(RoleSet other) {
+        int n = Math.min(words.length, other.words.length);
+        for (int i = 0; i < n; i++) {
+            if ((words[i] & other.words[i]) != 0) return true;
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) return false;
+        }
+        return true;
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                action.accept((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof RoleSet other && Arrays.equals(words, other.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    public static final class Builder {
+        private long[] words = new long[1];
+
+        public Builder add(int index) {
+            int word = index >>> 6;
+            if (word >= words.length) words = Arrays.copyOf(words, word + 1);
+            words[word] |= 1L << index;
+            return this;
+        }
+
+        public Builder addAll(RoleSet roles) {
+            if (roles.words.length > words.length) words = Arrays.copyOf(words, roles.words.length);
+            for (int i = 0; i < roles.words.length; i++) {
+                words[i] |= roles.words[i];
+            }
+            return this;
+        }
+
+        public RoleSet build() {
+            int length = words.length;
+            while (length > 0 && words[length - 1] == 0) length--;
+            return length == 0 ? EMPTY : new RoleSet(Arrays.copyOf(words, length));
+        }
+    }
+}
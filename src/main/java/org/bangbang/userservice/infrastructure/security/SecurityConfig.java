@@ -1,12 +1,18 @@
 package org.bangbang.userservice.infrastructure.security;
 
-import org.bangbang.userservice.infrastructure.keycloak.converter.KeycloakClientRoleConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.bangbang.userservice.infrastructure.keycloak.cache.RealmRoleRegistry;
+import org.bangbang.userservice.infrastructure.keycloak.converter.RealmRoleAuthenticationConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.security.access.expression.method.MethodSecurityExpressionHandler;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
-import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
 import org.springframework.security.oauth2.server.resource.web.BearerTokenAuthenticationEntryPoint;
 import org.springframework.security.oauth2.server.resource.web.access.BearerTokenAccessDeniedHandler;
 import org.springframework.security.web.SecurityFilterChain;
@@ -16,21 +22,38 @@ import org.springframework.security.web.SecurityFilterChain;
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
-
-        JwtAuthenticationConverter conv = new JwtAuthenticationConverter();
-        conv.setJwtGrantedAuthoritiesConverter(new KeycloakClientRoleConverter());
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   CachingJwtAuthenticationManager jwtAuthenticationManager,
+                                                   RealmRoleRegistry realmRoleRegistry) throws Exception {
 
         http.csrf(AbstractHttpConfigurer::disable)
             .authorizeHttpRequests(authorize -> authorize
-                .requestMatchers("/profile/**", "/password/**", "/role/**").hasRole("USER")
+                .requestMatchers("/user/profile/**", "/user/password/**", "/user/role/**").access(RealmRoleAuthorizationManager.hasRole(realmRoleRegistry, "USER"))
                 .anyRequest().permitAll())
             .oauth2Login(AbstractHttpConfigurer::disable)
             .oauth2ResourceServer(c -> c
-                .jwt(jwt -> jwt.jwtAuthenticationConverter(conv))
+                .jwt(jwt -> jwt.authenticationManager(jwtAuthenticationManager))
                 .authenticationEntryPoint(new BearerTokenAuthenticationEntryPoint())
                 .accessDeniedHandler(new BearerTokenAccessDeniedHandler()));
 
         return http.build();
     }
+
+    // 검증된 JWT 캐시 (user.security.jwt-cache.max-size=0 이면 캐시 없이 매번 검증)
+    @Bean
+    public CachingJwtAuthenticationManager jwtAuthenticationManager(JwtDecoder jwtDecoder,
+                                                                    RealmRoleRegistry realmRoleRegistry,
+                                                                    MeterRegistry meterRegistry,
+                                                                    @Value("${user.security.jwt-cache.max-size:10000}") int maxSize) {
+        JwtAuthenticationProvider provider = new JwtAuthenticationProvider(jwtDecoder);
+        provider.setJwtAuthenticationConverter(new RealmRoleAuthenticationConverter(realmRoleRegistry));
+
+        return new CachingJwtAuthenticationManager(provider, maxSize, meterRegistry);
+    }
+
+    // @PreAuthorize 의 hasRole 을 RoleSet 비트 검사로 수행
+    @Bean
+    static MethodSecurityExpressionHandler methodSecurityExpressionHandler(@Lazy RealmRoleRegistry realmRoleRegistry) {
+        return new RealmRoleMethodSecurityExpressionHandler(realmRoleRegistry);
+    }
 }
@@ -0,0 +1,82 @@
+package org.bangbang.userservice.infrastructure.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비동기 회원 가입 명령의 비밀번호 암호화 (AES-256-GCM)
+ *  - 가입 명령 토픽에는 평문 비밀번호를 싣지 않는다 (브로커 디스크, 복제본에 보존 기간 동안 남는다)
+ *  - 키는 모든 인스턴스가 같은 user.signup.command-key (Base64, 32 bytes) - 어느 인스턴스가 소비해도 복호화
+ *  - 추적 ID 를 AAD 로 사용하여 다른 명령에 옮겨 붙인 암호문은 복호화되지 않는다
+ */
+@Component
+public class SignupPasswordCipher {
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecretKey key; // 설정되지 않았으면 null
+    private final SecureRandom random = new SecureRandom();
+
+    public SignupPasswordCipher(@Value("${user.signup.command-key:}") String encodedKey) {
+        if (encodedKey.isBlank()) {
+            this.key = null;
+            return;
+        }
+
+        byte[] bytes = Base64.getDecoder().decode(encodedKey.trim());
+        if (bytes.length != 32) {
+            throw new IllegalStateException("user.signup.command-key 는 Base64 로 인코딩한 32 bytes 키여야 합니다.");
+        }
+        this.key = new SecretKeySpec(bytes, "AES");
+    }
+
+    public boolean isConfigured() {
+        return key != null;
+    }
+
+    // IV(12 bytes) + 암호문, Base64
+    public String encrypt(UUID trackingId, String password) {
+        byte[] iv = new byte[IV_LENGTH];
+        random.nextBytes(iv);
+        try {
+            Cipher cipher = init(Cipher.ENCRYPT_MODE, trackingId, iv);
+            byte[] encrypted = cipher.doFinal(password.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(ByteBuffer.allocate(IV_LENGTH + encrypted.length).put(iv).put(encrypted).array());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("가입 비밀번호를 암호화하지 못했습니다.", e);
+        }
+    }
+
+    public String decrypt(UUID trackingId, String encrypted) {
+        byte[] bytes = Base64.getDecoder().decode(encrypted);
+        try {
+            Cipher cipher = init(Cipher.DECRYPT_MODE, trackingId, Arrays.copyOf(bytes, IV_LENGTH));
+            return new String(cipher.doFinal(bytes, IV_LENGTH, bytes.length - IV_LENGTH), StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException e) { // 키 불일치, 변조
+            throw new IllegalStateException("가입 비밀번호를 복호화하지 못했습니다.", e);
+        }
+    }
+
+    private Cipher init(int mode, UUID trackingId, byte[] iv) throws GeneralSecurityException {
+        if (key == null) {
+            throw new IllegalStateException("user.signup.command-key 가 설정되지 않았습니다.");
+        }
+
+        Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+        cipher.init(mode, key, new GCMParameterSpec(TAG_BITS, iv));
+        cipher.updateAAD(trackingId.toString().getBytes(StandardCharsets.UTF_8));
+        return cipher;
+    }
+}
@@ -0,0 +1,109 @@
+package org.bangbang.userservice.infrastructure.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 키(사용자명, IP 등)별 Token Bucket
+ *  - capacity 개까지 연속 허용, refillPeriod 동안 capacity 개가 다시 채워진다
+ *  - 키 해시로 나눈 stripe 마다 잠금 - 서로 다른 키의 요청은 대부분 경합하지 않는다
+ *  - stripe 는 최근 사용 순서로 유지, refillPeriod 이상 사용하지 않은 항목(가득 찬 버킷과 같음)은 제거
+ *  - 최대 maxEntries 건, 넘으면 가장 오래 사용하지 않은 항목부터 제거
+ */
+public class TokenBucketTable {
+    private static final int STRIPES = 64;
+
+    private final int capacity;
+    private final long refillMillis; // capacity 개가 모두 채워지는 시간
+    private final int maxPerStripe;
+    private final Clock clock;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    public TokenBucketTable(int capacity, Duration refillPeriod, int maxEntries, Clock clock) {
+        this.capacity = capacity;
+        this.refillMillis = Math.max(1, refillPeriod.toMillis());
+        this.maxPerStripe = Math.max(1, maxEntries / STRIPES);
+        this.clock = clock;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    // 토큰 1개 사용, 허용되면 0, 거절되면 다음 토큰까지 남은 시간 (millis)
+    public long tryConsume(String key) {
+        Stripe stripe = stripes[Math.floorMod(spread(key.hashCode()), STRIPES)];
+        long now = clock.millis();
+
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                stripe.evictIdle(now);
+                bucket = new Bucket(capacity, now);
+                stripe.buckets.put(key, bucket);
+            }
+            return bucket.tryConsume(now);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Bucket> buckets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                return size() > maxPerStripe;
+            }
+        };
+
+        // 사용 순서의 앞쪽(오래된 항목)부터 유휴 항목 제거
+        private void evictIdle(long now) {
+            Iterator<Bucket> iterator = buckets.values().iterator();
+            while (iterator.hasNext() && now - iterator.next().updatedAt >= refillMillis) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private final class Bucket {
+        private double tokens;
+        private long updatedAt;
+
+        private Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.updatedAt = now;
+        }
+
+        private long tryConsume(long now) {
+            tokens = Math.min(capacity, tokens + (double) (now - updatedAt) * capacity / refillMillis);
+            updatedAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) * refillMillis / capacity);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.bangbang.userservice.infrastructure.stream;
+
+import java.util.List;
+import java.util.function.Consumer;
+import org.bangbang.userservice.application.dto.SignupCommand;
+import org.bangbang.userservice.application.dto.SignupStatus;
+import org.bangbang.userservice.application.service.AsyncSignupService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 비동기 회원 가입 Consumer 바인딩
+ *  - signupCommandConsumer-in-0 : 가입 명령 (batch-mode)
+ *  - signupStatusConsumer-in-0 : 가입 처리 결과 (group 없이 모든 인스턴스가 수신)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "user.signup", name = "async", havingValue = "true")
+public class SignupStreamConfig {
+
+    @Bean
+    public Consumer<List<SignupCommand>> signupCommandConsumer(AsyncSignupService signupService) {
+        return signupService::handle;
+    }
+
+    @Bean
+    public Consumer<SignupStatus> signupStatusConsumer(AsyncSignupService signupService) {
+        return signupService::onStatus;
+    }
+}
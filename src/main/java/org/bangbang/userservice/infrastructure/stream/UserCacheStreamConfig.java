@@ -0,0 +1,22 @@
+package org.bangbang.userservice.infrastructure.stream;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.bangbang.userservice.infrastructure.keycloak.cache.UserProfileCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 사용자 정보 캐시 무효화 Consumer 바인딩
+ *  - userInvalidationConsumer-in-0 : 변경된 사용자 ID (group 없이 모든 인스턴스가 수신)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "keycloak.user-cache", name = "broadcast", havingValue = "true", matchIfMissing = true)
+public class UserCacheStreamConfig {
+
+    @Bean
+    public Consumer<UUID> userInvalidationConsumer(UserProfileCache userCache) {
+        return userCache::invalidate;
+    }
+}
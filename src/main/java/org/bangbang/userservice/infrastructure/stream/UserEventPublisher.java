@@ -0,0 +1,232 @@
+package org.bangbang.userservice.infrastructure.stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.bangbang.userservice.application.dto.UserEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.integration.annotation.ServiceActivator;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 이벤트 발행 (UserCreated, UserUpdated, UserRolesChanged -> user.events)
+ *  - 요청 스레드는 outbox (메모리, 최대 outboxCapacity 건) 에 넣기만 하고, 발행 스레드가 순서대로 전송
+ *  - 꺼낸 이벤트는 확인을 기다리지 않고 모두 보내 프로듀서가 배치로 전송, 그 뒤 전체의 확인(ack) 결과를 기다린다
+ *  - 확인 결과는 binder 가 record-metadata-channel (성공), user.events.errors (실패) 로 전달 - eventId 헤더로 대응
+ *  - 브로커가 확인한 이벤트만 user.events.published{result=sent} 로 집계
+ *  - 전송, 확인에 실패하면 처음 실패한 이벤트부터 retryBackoff ~ maxBackoff 간격으로 재시도 (브로커 일시 장애 동안 outbox 에 보관)
+ *  - outbox 가 가득 차면 새 이벤트는 버리고 user.events.published{result=dropped} 로 집계
+ *  - 종료 시 shutdownTimeout 동안 남은 이벤트 전송, 재시작을 넘어서는 보관은 하지 않는다
+ */
+@Slf4j
+@Component
+public class UserEventPublisher {
+    public static final String BINDING = "userEvent-out-0";
+    public static final String EVENT_TYPE_HEADER = "eventType";
+    public static final String EVENT_ID_HEADER = "eventId"; // 확인 결과 대응, 소비자의 중복 제거
+    public static final String SEND_RESULT_CHANNEL = "userEventSendResults";
+    public static final String SEND_FAILURE_CHANNEL = "user.events.errors"; // binder 의 전송 오류 채널 (destination.errors)
+    private static final String METRIC = "user.events";
+    private static final int BATCH_SIZE = 100; // 발행 스레드가 outbox 에서 한 번에 꺼내는 최대 건수
+
+    private final StreamBridge streamBridge;
+    private final boolean enabled;
+    private final BlockingQueue<UserEvent> outbox;
+    private final Duration retryBackoff;
+    private final Duration maxBackoff;
+    private final Duration shutdownTimeout;
+    private final boolean confirm;
+    private final Duration sendTimeout;
+    private final Map<UUID, CompletableFuture<Void>> pendingAcks = new ConcurrentHashMap<>(); // 확인 대기 중인 eventId
+    private final Counter sent;
+    private final Counter dropped;
+    private final Counter retried;
+    private volatile boolean stopping;
+    private Thread worker;
+
+    public UserEventPublisher(StreamBridge streamBridge,
+                              @Value("${user.events.enabled:true}") boolean enabled,
+                              @Value("${user.events.outbox-capacity:10000}") int outboxCapacity,
+                              @Value("${user.events.retry-backoff:200ms}") Duration retryBackoff,
+                              @Value("${user.events.max-backoff:30s}") Duration maxBackoff,
+                              @Value("${user.events.shutdown-timeout:5s}") Duration shutdownTimeout,
+                              @Value("${user.events.confirm:true}") boolean confirm,
+                              @Value("${user.events.send-timeout:20s}") Duration sendTimeout,
+                              MeterRegistry meterRegistry) {
+        this.streamBridge = streamBridge;
+        this.enabled = enabled;
+        this.outbox = new ArrayBlockingQueue<>(outboxCapacity);
+        this.retryBackoff = retryBackoff;
+        this.maxBackoff = maxBackoff;
+        this.shutdownTimeout = shutdownTimeout;
+        this.confirm = confirm;
+        this.sendTimeout = sendTimeout;
+        this.sent = Counter.builder(METRIC + ".published").tag("result", "sent").register(meterRegistry);
+        this.dropped = Counter.builder(METRIC + ".published").tag("result", "dropped").register(meterRegistry);
+        this.retried = Counter.builder(METRIC + ".published").tag("result", "retried").register(meterRegistry);
+        Gauge.builder(METRIC + ".outbox", outbox, BlockingQueue::size)
+            .description("전송 대기 중인 사용자 이벤트 수")
+            .register(meterRegistry);
+    }
+
+    // outbox 에 추가 - 브로커 상태와 관계없이 즉시 반환
+    public void publish(UserEvent event) {
+        if (!enabled) return;
+
+        if (!outbox.offer(event)) {
+            dropped.increment();
+            log.warn("사용자 이벤트 outbox 가득 참 - {} 버림, userId: {}", event.getClass().getSimpleName(), event.userId());
+        }
+    }
+
+    public int pending() {
+        return outbox.size();
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) return;
+
+        worker = Thread.ofPlatform().name("user-event-publisher").daemon().start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (worker == null) return;
+
+        stopping = true;
+        worker.join(shutdownTimeout.toMillis());
+        if (worker.isAlive()) {
+            worker.interrupt();
+            log.warn("사용자 이벤트 발행 종료 - 전송하지 못한 이벤트: {}건", outbox.size());
+        }
+    }
+
+    private void run() {
+        List<UserEvent> batch = new ArrayList<>(BATCH_SIZE);
+        long backoff = retryBackoff.toMillis();
+        try {
+            while (!stopping || !batch.isEmpty() || !outbox.isEmpty()) {
+                if (batch.isEmpty()) {
+                    UserEvent first = outbox.poll(100, TimeUnit.MILLISECONDS);
+                    if (first == null) continue;
+                    batch.add(first);
+                    outbox.drainTo(batch, BATCH_SIZE - 1);
+                }
+
+                // 실패한 이벤트부터 다시 보내야 사용자별 순서가 유지된다
+                int count = send(batch);
+                batch.subList(0, count).clear();
+                if (batch.isEmpty()) {
+                    backoff = retryBackoff.toMillis();
+                    continue;
+                }
+
+                retried.increment();
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, maxBackoff.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 브로커 확인 (record-metadata-channel)
+    @ServiceActivator(inputChannel = SEND_RESULT_CHANNEL)
+    public void onSendSuccess(Message<?> message) {
+        CompletableFuture<Void> ack = pendingAck(message);
+        if (ack != null) ack.complete(null);
+    }
+
+    // 전송 실패 (delivery.timeout.ms 초과 등)
+    @ServiceActivator(inputChannel = SEND_FAILURE_CHANNEL)
+    public void onSendFailure(Message<?> error) {
+        if (!(error.getPayload() instanceof MessagingException e) || e.getFailedMessage() == null) return;
+
+        CompletableFuture<Void> ack = pendingAck(e.getFailedMessage());
+        if (ack != null) ack.completeExceptionally(e.getCause() != null ? e.getCause() : e);
+    }
+
+    // 모두 보낸 뒤 전체 확인을 기다림, 앞에서부터 연속으로 확인된 건수 반환 (그 뒤는 확인되었어도 순서 유지를 위해 재전송)
+    private int send(List<UserEvent> batch) {
+        List<CompletableFuture<Void>> acks = new ArrayList<>(batch.size());
+        try {
+            for (UserEvent event : batch) {
+                CompletableFuture<Void> ack = new CompletableFuture<>();
+                if (confirm) pendingAcks.put(event.eventId(), ack);
+                try {
+                    if (!streamBridge.send(BINDING, toMessage(event))) {
+                        log.warn("사용자 이벤트 전송 실패 - {}, userId: {}", event.getClass().getSimpleName(), event.userId());
+                        break;
+                    }
+                } catch (RuntimeException e) { // 브로커 연결 불가 (max.block.ms 초과) 등
+                    log.warn("사용자 이벤트 전송 실패 - {}, userId: {}, error: {}", event.getClass().getSimpleName(), event.userId(), e.getMessage());
+                    break;
+                }
+                if (!confirm) ack.complete(null);
+                acks.add(ack);
+            }
+
+            int confirmed = awaitAcks(batch, acks);
+            sent.increment(confirmed);
+            return confirmed;
+        } finally {
+            batch.forEach(event -> pendingAcks.remove(event.eventId()));
+        }
+    }
+
+    // 실패해도 나머지 결과까지 기다린다 - 확정되기 전에 재전송하면 순서가 뒤바뀔 수 있다
+    private int awaitAcks(List<UserEvent> batch, List<CompletableFuture<Void>> acks) {
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        int firstFailure = -1; // 실패가 없으면 -1
+        for (int i = 0; i < acks.size(); i++) {
+            UserEvent event = batch.get(i);
+            try {
+                acks.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                String error = e instanceof ExecutionException ? e.getCause().getMessage() : "확인 시간 초과";
+                log.warn("사용자 이벤트 전송 실패 - {}, userId: {}, error: {}", event.getClass().getSimpleName(), event.userId(), error);
+                if (firstFailure < 0) firstFailure = i;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return firstFailure < 0 ? i : firstFailure;
+            }
+        }
+        return firstFailure < 0 ? acks.size() : firstFailure;
+    }
+
+    private CompletableFuture<Void> pendingAck(Message<?> message) {
+        Object eventId = message.getHeaders().get(EVENT_ID_HEADER);
+        return eventId == null ? null : pendingAcks.get(UUID.fromString(eventId.toString()));
+    }
+
+    // 같은 사용자의 이벤트는 같은 파티션으로 (key 는 binder 기본 ByteArraySerializer 로 전송)
+    private Message<UserEvent> toMessage(UserEvent event) {
+        return MessageBuilder.withPayload(event)
+            .setHeader(KafkaHeaders.KEY, event.userId().toString().getBytes(StandardCharsets.UTF_8))
+            .setHeader(EVENT_TYPE_HEADER, event.getClass().getSimpleName())
+            .setHeader(EVENT_ID_HEADER, event.eventId().toString())
+            .build();
+    }
+}
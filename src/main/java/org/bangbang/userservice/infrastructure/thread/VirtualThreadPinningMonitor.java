@@ -0,0 +1,93 @@
+package org.bangbang.userservice.infrastructure.thread;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Virtual Thread 고정(pinning) 감지 (spring.threads.virtual.enabled=true)
+ *  - JFR jdk.VirtualThreadPinned 이벤트를 구독하여 고정된 호출 경로를 집계
+ *  - Keycloak 클라이언트 경로(Keycloak admin client, RESTEasy, Apache HttpClient)는 source=keycloak 으로 구분
+ *  - 호출 위치별로 최초 1회 스택을 로그로 남긴다
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final List<String> KEYCLOAK_PACKAGES = List.of("org.keycloak.", "org.jboss.resteasy.", "org.apache.http.", "org.apache.hc.");
+    private static final int MAX_REPORTED_SITES = 100;
+    private static final int MAX_LOGGED_FRAMES = 8;
+
+    private final Duration threshold;
+    private final Counter keycloakPinned;
+    private final Counter otherPinned;
+    private final Map<String, Boolean> reportedSites = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${user.virtual-threads.pinned-threshold:20ms}") Duration threshold,
+                                       MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.keycloakPinned = Counter.builder("jvm.threads.virtual.pinned.calls").tag("source", "keycloak").register(meterRegistry);
+        this.otherPinned = Counter.builder("jvm.threads.virtual.pinned.calls").tag("source", "other").register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    @Override
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        boolean keycloak = frames.stream().anyMatch(this::isKeycloakFrame);
+        (keycloak ? keycloakPinned : otherPinned).increment();
+
+        String site = frames.stream().filter(RecordedFrame::isJavaFrame).findFirst().map(this::format).orElse("unknown");
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.putIfAbsent(site, Boolean.TRUE) == null) {
+            log.warn("Virtual Thread 고정 감지 - source: {}, duration: {}ms\n\t{}",
+                keycloak ? "keycloak" : "other",
+                event.getDuration().toMillis(),
+                frames.stream().limit(MAX_LOGGED_FRAMES).map(this::format).collect(Collectors.joining("\n\t")));
+        }
+    }
+
+    private boolean isKeycloakFrame(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return KEYCLOAK_PACKAGES.stream().anyMatch(type::startsWith);
+    }
+
+    private String format(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,33 @@
+package org.bangbang.userservice.presentation.controller;
+
+import org.springframework.util.StringUtils;
+
+// Accept-Encoding 헤더 해석
+final class AcceptEncoding {
+
+    private AcceptEncoding() {
+    }
+
+    // Accept-Encoding: gzip, deflate / gzip;q=0.5 - q=0 은 거부
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (!StringUtils.hasText(acceptEncoding)) return false;
+
+        for (String coding : acceptEncoding.split(",")) {
+            String[] params = coding.split(";");
+            if (!params[0].trim().equalsIgnoreCase("gzip")) continue;
+
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
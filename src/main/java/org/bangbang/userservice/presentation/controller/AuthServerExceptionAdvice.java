@@ -0,0 +1,30 @@
+package org.bangbang.userservice.presentation.controller;
+
+import org.bangbang.userservice.application.service.AuthServerUnavailableException;
+import org.bangbang.userservice.presentation.dto.ErrorResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Keycloak 을 호출하는 컨트롤러 공통 예외 처리
+ *  - 공통 예외 처리(msa-common)보다 먼저 적용되도록 최우선 순서
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RestControllerAdvice(assignableTypes = {UserController.class, UserQueryController.class})
+public class AuthServerExceptionAdvice {
+
+    // Keycloak 호출 차단 (Circuit Breaker OPEN, 동시 호출 초과, 시간 초과, 과부하) - 503 즉시 응답
+    @ExceptionHandler(AuthServerUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleAuthServerUnavailable(AuthServerUnavailableException e) {
+        ResponseEntity.BodyBuilder res = ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE);
+        if (e.getRetryAfter() != null) {
+            res.header(HttpHeaders.RETRY_AFTER, RetryAfter.seconds(e.getRetryAfter()));
+        }
+        return res.body(new ErrorResponse(e.getReason().code(), e.getMessage()));
+    }
+}
@@ -0,0 +1,18 @@
+package org.bangbang.userservice.presentation.controller;
+
+import java.time.Duration;
+
+/**
+ * Retry-After 헤더 값 (초)
+ *  - 올림 처리 - 버림이면 1.9초 남았을 때 1초를 안내하여 클라이언트가 너무 일찍 재시도한다
+ */
+final class RetryAfter {
+
+    private RetryAfter() {
+    }
+
+    static String seconds(Duration retryAfter) {
+        long millis = retryAfter.toMillis();
+        return String.valueOf(Math.max(1, (millis + 999) / 1000));
+    }
+}
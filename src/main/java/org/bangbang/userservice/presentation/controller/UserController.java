@@ -1,87 +1,223 @@
 package org.bangbang.userservice.presentation.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import jakarta.ws.rs.BadRequestException;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 import lombok.RequiredArgsConstructor;
-import org.bangbang.userservice.application.dto.TokenInfo;
+import lombok.extern.slf4j.Slf4j;
+import org.bangbang.infrastructure.exception.ApplicationException;
+import org.bangbang.userservice.application.dto.UserImportCommand;
+import org.bangbang.userservice.application.dto.UserImportResult;
 import org.bangbang.userservice.application.dto.UserRegister;
 import org.bangbang.userservice.application.dto.UserUpdate;
+import org.bangbang.userservice.application.service.AsyncSignupService;
+import org.bangbang.userservice.application.service.LoginThrottledException;
 import org.bangbang.userservice.application.service.TokenGenerateService;
+import org.bangbang.userservice.application.service.TokenRefreshException;
+import org.bangbang.userservice.application.service.UserAlreadyExistsException;
+import org.bangbang.userservice.application.service.UserExportService;
+import org.bangbang.userservice.application.service.UserImportService;
 import org.bangbang.userservice.application.service.UserRegisterService;
 import org.bangbang.userservice.application.service.UserUpdateService;
+import org.bangbang.userservice.infrastructure.security.LoginThrottle;
+import org.bangbang.userservice.presentation.dto.ErrorResponse;
 import org.bangbang.userservice.presentation.dto.PasswordChangeRequest;
+import org.bangbang.userservice.presentation.dto.SignupResponse;
+import org.bangbang.userservice.presentation.dto.SignupStatusResponse;
+import org.bangbang.userservice.presentation.dto.TokenRefreshRequest;
 import org.bangbang.userservice.presentation.dto.TokenRequest;
 import org.bangbang.userservice.presentation.dto.TokenResponse;
+import org.bangbang.userservice.presentation.dto.UserExportDoneResponse;
+import org.bangbang.userservice.presentation.dto.UserExportResponse;
+import org.bangbang.userservice.presentation.dto.UserImportResponse;
 import org.bangbang.userservice.presentation.dto.UserRegisterRequest;
 import org.bangbang.userservice.presentation.dto.UserResponse;
 import org.bangbang.userservice.presentation.dto.UserUpdateRequest;
 import org.bangbang.userservice.presentation.validator.UserRegisterValidator;
 import org.bangbang.userservice.presentation.validator.UserUpdateValidator;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/user")
 public class UserController {
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024; // 내보내기 응답 버퍼 (줄마다 flush 하지 않는다)
 
     private final TokenGenerateService tokenService;
     private final UserRegisterService registerService;
     private final UserUpdateService updateService;
+    private final UserImportService importService;
+    private final UserExportService exportService;
+    private final AsyncSignupService asyncSignupService;
+    private final LoginThrottle loginThrottle;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
     // 토큰 발급
     @PostMapping("token")
-    public TokenResponse generateToken(@Valid @RequestBody TokenRequest req) {
-        TokenInfo tokenInfo = tokenService.generate(req.username(), req.password());
+    public TokenResponse generateToken(@Valid @RequestBody TokenRequest req, HttpServletRequest httpReq) {
+        loginThrottle.check(req.username(), httpReq.getRemoteAddr()); // 신뢰하는 프록시(Gateway) 뒤에서는 X-Forwarded-For 의 클라이언트 IP (server.forward-headers-strategy)
 
-        return new TokenResponse(tokenInfo.access_token(),
-            tokenInfo.expires_in(),
-            tokenInfo.refresh_expires_in(),
-            tokenInfo.refresh_token(),
-            tokenInfo.token_type());
+        return TokenResponse.of(tokenService.generate(req.username(), req.password()));
+    }
+
+    // 토큰 재발급 (refresh token)
+    @PostMapping("token/refresh")
+    public TokenResponse refreshToken(@Valid @RequestBody TokenRefreshRequest req) {
+        return TokenResponse.of(tokenService.refresh(req.refreshToken()));
+    }
+
+    // 재발급 실패 - 만료는 401 (다시 로그인), 잘못된 요청은 400, client 설정 오류는 500, 일시적 오류만 503 (재시도)
+    @ExceptionHandler(TokenRefreshException.class)
+    public ResponseEntity<ErrorResponse> handleTokenRefresh(TokenRefreshException e) {
+        return switch (e.getReason()) {
+            case EXPIRED -> ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(new ErrorResponse("refresh_token_expired", e.getMessage()));
+            case INVALID_REQUEST -> ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse("invalid_refresh_request", e.getMessage()));
+            case CLIENT_MISCONFIGURED -> {
+                log.error("토큰 재발급 실패 - client 설정 확인 필요: {}", e.getMessage());
+                yield ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR) // 설정 내용은 응답에 노출하지 않는다
+                    .body(new ErrorResponse("token_refresh_failed", "토큰 재발급에 실패했습니다."));
+            }
+            case FAILED -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ErrorResponse("token_refresh_failed", e.getMessage()));
+        };
+    }
+
+    // 로그인 시도 횟수 초과 - Keycloak 호출 없이 429
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<ErrorResponse> handleLoginThrottled(LoginThrottledException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, RetryAfter.seconds(e.getRetryAfter()))
+            .body(new ErrorResponse("too_many_login_attempts", e.getMessage()));
+    }
+
+    // 회원 가입 - 이미 있는 사용자명, 이메일
+    @ExceptionHandler(UserAlreadyExistsException.class)
+    public ResponseEntity<ErrorResponse> handleUserAlreadyExists(UserAlreadyExistsException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(new ErrorResponse("user_already_exists", e.getMessage()));
     }
 
     // 로그인한 사용자 정보 조회
     @GetMapping("profile")
     public UserResponse getProfile(@AuthenticationPrincipal Jwt jwt) {
-        UUID userId = UUID.fromString(jwt.getSubject());
-        Map<String, Object> claims = jwt.getClaims();
-        String name = claims.getOrDefault("family_name", "") + (String)claims.getOrDefault("given_name", "");
-
-        return new UserResponse(userId,
-            (String)claims.getOrDefault("preferred_username", ""),
-            (String)claims.getOrDefault("email", ""),
-            name,
-            (String)claims.getOrDefault("mobile", ""));
+        return UserResponse.of(jwt);
     }
 
-    // 회원 가입
+    // 회원 가입 (비동기 모드이면 202 와 추적 ID 반환)
     @PostMapping("signup")
-    @ResponseStatus(HttpStatus.CREATED)
-    public void signUp(@Valid @RequestBody UserRegisterRequest req) {
+    public ResponseEntity<SignupResponse> signUp(@Valid @RequestBody UserRegisterRequest req) {
 
         new UserRegisterValidator().validate(req); // 추가 검증 처리
 
-        UserRegister dto = UserRegister.builder()
-            .username(req.username())
-            .password(req.password())
-            .email(req.email())
-            .firstName(req.firstName())
-            .lastName(req.lastName())
-            .mobile(req.mobile())
-            .build();
+        UserRegister dto = toUserRegister(req);
+        if (asyncSignupService.isAsync()) {
+            UUID trackingId = asyncSignupService.submit(dto);
+            return ResponseEntity.accepted().body(new SignupResponse(trackingId));
+        }
+
         registerService.register(dto);
+        return ResponseEntity.status(HttpStatus.CREATED).build();
+    }
+
+    // 비동기 회원 가입 처리 상태 조회
+    @GetMapping("signup/{trackingId}")
+    public ResponseEntity<SignupStatusResponse> getSignupStatus(@PathVariable UUID trackingId) {
+        return ResponseEntity.of(asyncSignupService.getStatus(trackingId)
+            .map(status -> new SignupStatusResponse(status.trackingId(), status.state().name(), status.message())));
+    }
+
+    // 회원 일괄 등록 (NDJSON - 한 줄에 UserRegisterRequest 1건, 처리 결과도 한 줄에 1건씩 스트리밍)
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "import", consumes = MediaType.APPLICATION_NDJSON_VALUE, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void importUsers(InputStream body, HttpServletResponse res) throws IOException {
+        res.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream out = res.getOutputStream();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        AtomicLong lineNo = new AtomicLong();
+        Iterator<UserImportCommand> commands = reader.lines()
+            .map(line -> toImportCommand(lineNo.incrementAndGet(), line))
+            .filter(Objects::nonNull)
+            .iterator();
+
+        importService.importUsers(commands, result -> writeLine(out, result));
+    }
+
+    // 전체 사용자 내보내기 (NDJSON - 한 줄에 사용자 1건, Accept-Encoding 에 gzip 이 있으면 gzip 압축)
+    // 끝까지 보내면 마지막 줄은 {"done":true,"cursor":N}, 이 줄 없이 끝났으면 마지막으로 받은 줄의 cursor 로 다시 요청
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportUsers(@RequestParam(defaultValue = "0") long cursor, HttpServletRequest req, HttpServletResponse res) throws IOException {
+        if (cursor < 0) {
+            throw new BadRequestException("cursor 는 0 이상이어야 합니다.");
+        }
+
+        res.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        res.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        OutputStream body = res.getOutputStream();
+        if (AcceptEncoding.acceptsGzip(req.getHeader(HttpHeaders.ACCEPT_ENCODING))) {
+            res.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = new GZIPOutputStream(body);
+        }
+
+        AtomicLong position = new AtomicLong(cursor);
+        OutputStream out = new BufferedOutputStream(body, EXPORT_BUFFER_SIZE);
+        try {
+            long next = exportService.export(cursor, user -> writeRecord(out, new UserExportResponse(position.incrementAndGet(),
+                user.userId(),
+                user.username(),
+                user.email(),
+                user.firstName(),
+                user.lastName(),
+                user.mobile())));
+            writeRecord(out, UserExportDoneResponse.of(next));
+        } catch (RuntimeException e) {
+            // 닫지 않고 중단 - gzip trailer, 마지막 chunk 없이 연결이 끊겨 클라이언트가 잘린 응답을 정상 종료로 오인하지 않는다
+            if (!res.isCommitted()) res.reset(); // 아직 보내지 않았으면 오류 응답으로
+            throw e;
+        }
+        out.close(); // 성공한 경우에만 gzip trailer 기록
     }
 
     // 회원정보 수정
@@ -118,4 +254,66 @@ public class UserController {
 
         updateService.updateUserRole(UUID.fromString(jwt.getSubject()), roles);
     }
+
+    private UserRegister toUserRegister(UserRegisterRequest req) {
+        return UserRegister.builder()
+            .username(req.username())
+            .password(req.password())
+            .email(req.email())
+            .firstName(req.firstName())
+            .lastName(req.lastName())
+            .mobile(req.mobile())
+            .build();
+    }
+
+    // NDJSON 한 줄 -> 등록 요청, 파싱/검증 실패는 실패 레코드로 변환
+    private UserImportCommand toImportCommand(long line, String json) {
+        if (!StringUtils.hasText(json)) return null;
+
+        UserRegisterRequest req;
+        try {
+            req = objectMapper.readValue(json, UserRegisterRequest.class);
+        } catch (JsonProcessingException e) {
+            return UserImportCommand.invalid(line, null, "JSON 형식이 아닙니다.");
+        }
+
+        Set<ConstraintViolation<UserRegisterRequest>> violations = validator.validate(req);
+        if (!violations.isEmpty()) {
+            String error = violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+            return UserImportCommand.invalid(line, req.username(), error);
+        }
+
+        try {
+            new UserRegisterValidator().validate(req); // 추가 검증 처리
+        } catch (ApplicationException e) {
+            return UserImportCommand.invalid(line, req.username(), e.getMessage());
+        }
+
+        return UserImportCommand.of(line, toUserRegister(req));
+    }
+
+    private void writeLine(OutputStream out, UserImportResult result) {
+        writeRecord(out, new UserImportResponse(result.line(),
+            result.username(),
+            result.success(),
+            result.message()));
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // NDJSON 한 줄 (flush 하지 않음)
+    private void writeRecord(OutputStream out, Object record) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(record));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
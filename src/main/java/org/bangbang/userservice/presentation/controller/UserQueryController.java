@@ -0,0 +1,102 @@
+package org.bangbang.userservice.presentation.controller;
+
+import jakarta.ws.rs.BadRequestException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.bangbang.userservice.application.dto.UserProfile;
+import org.bangbang.userservice.application.service.UserNotFoundException;
+import org.bangbang.userservice.application.service.UserUpdateService;
+import org.bangbang.userservice.infrastructure.search.UserSearchIndex;
+import org.bangbang.userservice.presentation.dto.ErrorResponse;
+import org.bangbang.userservice.presentation.dto.UserResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 사용자 정보 조회 (다른 서비스용) - Keycloak 대신 사용자 정보 캐시, 검색 색인에서 응답
+ *  - 이메일, 휴대폰 번호를 포함하므로 서비스 계정(client credentials, Realm Role SERVICE)과 관리자만 허용
+ */
+@RestController
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('SERVICE', 'ADMIN')")
+public class UserQueryController {
+    private static final int MAX_IDS = 100; // 일괄 조회 최대 건수
+    private static final int MAX_SEARCH_LIMIT = 50;
+
+    private final UserUpdateService updateService;
+    private final UserSearchIndex searchIndex;
+
+    // 사용자 정보 조회 (/user/profile 등 다른 경로와 겹치지 않도록 UUID 형식만)
+    @GetMapping("/user/{userId:[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}}")
+    public UserResponse getUser(@PathVariable UUID userId) {
+        return toUserResponse(updateService.getUser(userId));
+    }
+
+    // 사용자 정보 일괄 조회 (?ids=id1,id2,...) - 없는 사용자는 결과에서 제외
+    @GetMapping("/users")
+    public List<UserResponse> getUsers(@RequestParam List<UUID> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_IDS) {
+            throw new BadRequestException("조회할 사용자 ID 를 1~" + MAX_IDS + "건 전송해 주세요.");
+        }
+
+        return updateService.getUsers(ids).stream().map(this::toUserResponse).toList();
+    }
+
+    // 사용자 검색 (관리자 화면 자동 완성) - 사용자명, 이메일, 휴대폰 번호 접두어, fuzzy 이면 한 글자 오타까지
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/users/search")
+    public ResponseEntity<List<UserResponse>> searchUsers(@RequestParam String q,
+                                                          @RequestParam(required = false) String field,
+                                                          @RequestParam(defaultValue = "10") int limit,
+                                                          @RequestParam(defaultValue = "true") boolean fuzzy) {
+        if (q.isBlank() || limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new BadRequestException("검색어와 1~" + MAX_SEARCH_LIMIT + " 사이의 limit 을 전송해 주세요.");
+        }
+        if (!searchIndex.isEnabled()) { // user.search.enabled=false
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        if (!searchIndex.isReady()) { // 기동 후 첫 동기화 중
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "10").build();
+        }
+
+        List<UserResponse> users = searchIndex.search(q, toSearchField(field), limit, fuzzy).stream()
+            .map(this::toUserResponse)
+            .toList();
+        return ResponseEntity.ok(users);
+    }
+
+    @ExceptionHandler(UserNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleUserNotFound(UserNotFoundException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .body(new ErrorResponse("user_not_found", e.getMessage()));
+    }
+
+    // username, email, mobile, 없으면 전체
+    private UserSearchIndex.Field toSearchField(String field) {
+        if (field == null || field.isBlank()) return null;
+        try {
+            return UserSearchIndex.Field.valueOf(field.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("검색 필드는 username, email, mobile 중 하나입니다.");
+        }
+    }
+
+    // 이름은 /user/profile 과 같이 성 + 이름
+    private UserResponse toUserResponse(UserProfile user) {
+        return new UserResponse(user.userId(),
+            user.username(),
+            user.email(),
+            Objects.requireNonNullElse(user.lastName(), "") + Objects.requireNonNullElse(user.firstName(), ""),
+            user.mobile());
+    }
+}
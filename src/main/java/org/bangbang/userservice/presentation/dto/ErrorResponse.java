@@ -0,0 +1,6 @@
+package org.bangbang.userservice.presentation.dto;
+
+public record ErrorResponse(
+    String error, // refresh_token_expired, token_refresh_failed, auth_server_unavailable, auth_server_busy, auth_server_timeout, auth_server_overloaded, too_many_login_attempts
+    String message
+) {}
@@ -0,0 +1,7 @@
+package org.bangbang.userservice.presentation.dto;
+
+import java.util.UUID;
+
+public record SignupResponse(
+    UUID trackingId
+) {}
@@ -0,0 +1,9 @@
+package org.bangbang.userservice.presentation.dto;
+
+import java.util.UUID;
+
+public record SignupStatusResponse(
+    UUID trackingId,
+    String status,
+    String message
+) {}
@@ -0,0 +1,8 @@
+package org.bangbang.userservice.presentation.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record TokenRefreshRequest(
+    @NotBlank
+    String refreshToken
+) {}
@@ -1,9 +1,19 @@
 package org.bangbang.userservice.presentation.dto;
 
+import org.bangbang.userservice.application.dto.TokenInfo;
+
 public record TokenResponse(
     String accessToken,
     int expiresIn,
     int refreshExpiresIn,
     String refreshToken,
     String tokenType
-) {}
+) {
+    public static TokenResponse of(TokenInfo tokenInfo) {
+        return new TokenResponse(tokenInfo.access_token(),
+            tokenInfo.expires_in(),
+            tokenInfo.refresh_expires_in(),
+            tokenInfo.refresh_token(),
+            tokenInfo.token_type());
+    }
+}
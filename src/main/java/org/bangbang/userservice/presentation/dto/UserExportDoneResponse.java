@@ -0,0 +1,11 @@
+package org.bangbang.userservice.presentation.dto;
+
+// 내보내기 마지막 줄 - 이 줄이 없으면 중간에 끊긴 응답
+public record UserExportDoneResponse(
+    boolean done,
+    long cursor // 다음 내보내기를 시작할 위치 (이후 가입한 사용자부터)
+) {
+    public static UserExportDoneResponse of(long cursor) {
+        return new UserExportDoneResponse(true, cursor);
+    }
+}
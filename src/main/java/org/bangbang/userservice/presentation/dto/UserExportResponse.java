@@ -0,0 +1,13 @@
+package org.bangbang.userservice.presentation.dto;
+
+import java.util.UUID;
+
+public record UserExportResponse(
+    long cursor, // 이 사용자까지 받았을 때 다시 시작할 위치
+    UUID userId,
+    String username,
+    String email,
+    String firstName,
+    String lastName,
+    String mobile
+) {}
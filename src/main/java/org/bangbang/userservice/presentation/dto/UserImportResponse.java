@@ -0,0 +1,8 @@
+package org.bangbang.userservice.presentation.dto;
+
+public record UserImportResponse(
+    long line,
+    String username,
+    boolean success,
+    String message
+) {}
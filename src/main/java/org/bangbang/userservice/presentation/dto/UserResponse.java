@@ -1,6 +1,8 @@
 package org.bangbang.userservice.presentation.dto;
 
+import java.util.Map;
 import java.util.UUID;
+import org.springframework.security.oauth2.jwt.Jwt;
 
 public record UserResponse(
     UUID userId,
@@ -8,4 +10,17 @@ public record UserResponse(
     String email,
     String name,
     String mobile
-) {}
+) {
+    // 로그인한 사용자 - Access Token 의 claims 로 (이름은 성 + 이름)
+    public static UserResponse of(Jwt jwt) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        Map<String, Object> claims = jwt.getClaims();
+        String name = claims.getOrDefault("family_name", "") + (String)claims.getOrDefault("given_name", "");
+
+        return new UserResponse(userId,
+            (String)claims.getOrDefault("preferred_username", ""),
+            (String)claims.getOrDefault("email", ""),
+            name,
+            (String)claims.getOrDefault("mobile", ""));
+    }
+}
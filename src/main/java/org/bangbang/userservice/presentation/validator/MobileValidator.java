@@ -5,12 +5,26 @@ public interface MobileValidator {
         /**
          * 01[016]-0000/000-0000
          * 01[016]-\d{3,4}-\d{4}
-         * 1. 숫자만 남긴다
-         * 2. 패턴 만들기
-         * 3. 체크
+         * 숫자 외 문자는 건너뛰면서 한 번에 체크
+         *  - 첫 세 자리 01[016]
+         *  - 숫자 10자리 또는 11자리
          */
-        mobile = mobile.replaceAll("\\D", "");
-        String pattern = "^01[016]\\d{3,4}\\d{4}$";
-        return mobile.matches(pattern);
+        int digits = 0;
+        for (int i = 0, len = mobile.length(); i < len; i++) {
+            char ch = mobile.charAt(i);
+            if (ch < '0' || ch > '9') continue;
+
+            boolean valid = switch (digits) {
+                case 0 -> ch == '0';
+                case 1 -> ch == '1';
+                case 2 -> ch == '0' || ch == '1' || ch == '6';
+                default -> digits < 11;
+            };
+            if (!valid) return false;
+
+            digits++;
+        }
+
+        return digits == 10 || digits == 11;
     }
 }
@@ -0,0 +1,73 @@
+package org.bangbang.userservice.presentation.validator;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 비밀번호 복잡성 규칙
+ *  - 한 번의 순회로 모든 문자 종류를 판별 (정규식, 중간 문자열 없음)
+ *  - 특수 문자 : 숫자, 알파벳, 한글(ㄱ-ㅎ, 가-힣)을 제외한 모든 문자
+ */
+public enum PasswordRule {
+    LOWER_CASE("알파벳 소문자"),
+    UPPER_CASE("알파벳 대문자"),
+    NUMBER("숫자"),
+    SPECIAL_CHAR("특수 문자");
+
+    private static final PasswordRule[] RULES = values();
+    private static final int ALL = (1 << RULES.length) - 1;
+
+    private final String description;
+    private final int mask;
+
+    PasswordRule(String description) {
+        this.description = description;
+        this.mask = 1 << ordinal();
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isSatisfied(int scanned) {
+        return (scanned & mask) != 0;
+    }
+
+    /**
+     * 포함된 문자 종류를 비트로 반환
+     * @return PasswordRule 별 mask 의 조합, 모든 종류가 확인되면 순회 중단
+     */
+    public static int scan(CharSequence password) {
+        int scanned = 0;
+
+        for (int i = 0, len = password.length(); i < len && scanned != ALL; i++) {
+            char ch = password.charAt(i);
+            if (ch >= 'a' && ch <= 'z') {
+                scanned |= LOWER_CASE.mask;
+            } else if (ch >= 'A' && ch <= 'Z') {
+                scanned |= UPPER_CASE.mask;
+            } else if (ch >= '0' && ch <= '9') {
+                scanned |= NUMBER.mask;
+            } else if (!(ch >= 'ㄱ' && ch <= 'ㅎ') && !(ch >= '가' && ch <= '힣')) {
+                scanned |= SPECIAL_CHAR.mask;
+            }
+        }
+
+        return scanned;
+    }
+
+    // 만족하지 못한 규칙 목록, 모두 만족하면 공유 빈 Set (할당 없음)
+    public static Set<PasswordRule> failed(CharSequence password) {
+        int scanned = scan(password);
+        if (scanned == ALL) return Set.of();
+
+        Set<PasswordRule> failed = EnumSet.noneOf(PasswordRule.class);
+        for (PasswordRule rule : RULES) {
+            if (!rule.isSatisfied(scanned)) {
+                failed.add(rule);
+            }
+        }
+
+        return failed;
+    }
+}
@@ -1,5 +1,8 @@
 package org.bangbang.userservice.presentation.validator;
 
+import java.util.Set;
+import java.util.stream.Collectors;
+
 public interface PasswordValidator {
     /**
      * 알파벳 복잡성 체크
@@ -9,38 +12,48 @@ public interface PasswordValidator {
      * @return
      */
     default boolean checkAlpha(String password, boolean caseInsensitive) {
+        int scanned = PasswordRule.scan(password);
         if (caseInsensitive) { // 대소문자 구분없이 알파벳 1자 이상
-            // .* : 0이상 아무 문자  [a-zA-Z]+ : 알파벳 대소문자 상관없이 1자 이상
-            return password.matches(".*[a-zA-Z]+.*");
+            return PasswordRule.LOWER_CASE.isSatisfied(scanned) || PasswordRule.UPPER_CASE.isSatisfied(scanned);
         }
 
         // 대문자 1개 이상, 소문자 1개 이상
-        return password.matches(".*[a-z]+.*") && password.matches(".*[A-Z]+.*");
+        return PasswordRule.LOWER_CASE.isSatisfied(scanned) && PasswordRule.UPPER_CASE.isSatisfied(scanned);
     }
 
     /**
      * 숫자 복잡성 체크
      *
-     * [0-9]  -> \d
-     *
      * @param password
      * @return
      */
     default boolean checkNumber(String password) {
-        return password.matches(".*\\d+.*");
+        return PasswordRule.NUMBER.isSatisfied(PasswordRule.scan(password));
     }
 
     /**
      * 특수문자 복잡성 체크
-     * [^문자..]   문자는 제외
-     * [^\d] -> 숫자를 제외한 문자
+     *  - 숫자, 알파벳, 한글을 제외한 모든 문자(특수문자)
      *
      * @param password
      * @return
      */
     default boolean checkSpecialChars(String password) {
-        String pattern = ".*[^0-9a-zA-Zㄱ-ㅎ가-힣]+.*";  // 숫자, 알파벳, 한글을 제외한 모든 문자(특수문자)
+        return PasswordRule.SPECIAL_CHAR.isSatisfied(PasswordRule.scan(password));
+    }
+
+    /**
+     * 비밀번호 복잡성 전체 체크 (대소문자, 숫자, 특수문자를 한 번의 순회로 확인)
+     *
+     * @param password
+     * @return 만족하지 못한 규칙, 모두 만족하면 빈 Set
+     */
+    default Set<PasswordRule> checkPassword(String password) {
+        return PasswordRule.failed(password);
+    }
 
-        return password.matches(pattern);
+    // 만족하지 못한 규칙 설명 (예: "숫자, 특수 문자")
+    default String describe(Set<PasswordRule> failed) {
+        return failed.stream().map(PasswordRule::getDescription).collect(Collectors.joining(", "));
     }
 }
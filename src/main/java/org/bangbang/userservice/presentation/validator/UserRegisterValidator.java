@@ -1,5 +1,6 @@
 package org.bangbang.userservice.presentation.validator;
 
+import java.util.Set;
 import org.bangbang.infrastructure.exception.ApplicationException;
 import org.bangbang.infrastructure.exception.ErrorCode;
 import org.bangbang.userservice.presentation.dto.UserRegisterRequest;
@@ -12,8 +13,9 @@ public class UserRegisterValidator implements PasswordValidator, MobileValidator
         String confirmPassword = req.confirmPassword();
 
         // 비밀번호 복잡성 체크
-        if (!checkAlpha(password, false) || !checkNumber(password) || !checkSpecialChars(password)) {
-            throw new ApplicationException(ErrorCode.REQUEST_VALIDATION_ERROR, "비밀번호는 알파벳 대소문자, 숫자, 특수 문자 포함 8자리 이상 입력하세요. ");
+        Set<PasswordRule> failed = checkPassword(password);
+        if (!failed.isEmpty()) {
+            throw new ApplicationException(ErrorCode.REQUEST_VALIDATION_ERROR, "비밀번호는 알파벳 대소문자, 숫자, 특수 문자 포함 8자리 이상 입력하세요. (누락: " + describe(failed) + ")");
         }
 
         // 비밀번호, 비밀번호 확인 일치 여부
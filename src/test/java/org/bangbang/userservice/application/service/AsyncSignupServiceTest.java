@@ -0,0 +1,171 @@
+package org.bangbang.userservice.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.bangbang.userservice.application.dto.SignupCommand;
+import org.bangbang.userservice.application.dto.SignupStatus;
+import org.bangbang.userservice.application.dto.UserRegister;
+import org.bangbang.userservice.infrastructure.security.SignupPasswordCipher;
+import org.bangbang.userservice.infrastructure.stream.SignupStreamConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.stream.binder.test.InputDestination;
+import org.springframework.cloud.stream.binder.test.OutputDestination;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.client.ResourceAccessException;
+
+@SpringBootTest(
+    classes = AsyncSignupServiceTest.TestApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "user.signup.async=true",
+        "user.signup.backoff-millis=1",
+        "user.signup.command-key=" + AsyncSignupServiceTest.COMMAND_KEY,
+        "spring.cloud.stream.default-binder=integration",
+        // 발행/수신을 따로 검증하기 위해 입력 바인딩은 별도 destination 사용
+        "spring.cloud.stream.bindings.signupCommandConsumer-in-0.destination=test.signup.command",
+        "spring.cloud.stream.bindings.signupStatusConsumer-in-0.destination=test.signup.status",
+        "eureka.client.enabled=false"
+    })
+@Import(TestChannelBinderConfiguration.class)
+@ActiveProfiles("test")
+class AsyncSignupServiceTest {
+    static final String COMMAND_KEY = "MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY="; // 32 bytes
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import({AsyncSignupService.class, SignupStreamConfig.class, SignupPasswordCipher.class})
+    static class TestApplication {}
+
+    @MockitoBean
+    private UserRegisterService registerService;
+
+    @Autowired
+    private AsyncSignupService signupService;
+
+    @Autowired
+    private InputDestination input;
+
+    @Autowired
+    private OutputDestination output;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SignupPasswordCipher passwordCipher;
+
+    @Test
+    @DisplayName("가입 요청은 명령으로 발행되고 PENDING 상태로 조회된다")
+    void submit() throws Exception {
+        // Given
+        UserRegister dto = UserRegister.builder().username("newuser").password("Password123!").build();
+
+        // When
+        UUID trackingId = signupService.submit(dto);
+
+        // Then
+        assertThat(signupService.getStatus(trackingId)).get()
+            .extracting(SignupStatus::state).isEqualTo(SignupStatus.State.PENDING);
+
+        Message<byte[]> message = output.receive(1000, "user.signup.command");
+        SignupCommand command = objectMapper.readValue(message.getPayload(), SignupCommand.class);
+        assertThat(command.trackingId()).isEqualTo(trackingId);
+        assertThat(command.user().username()).isEqualTo("newuser");
+        assertThat(command.user().password()).isNull();
+        assertThat(new String(message.getPayload(), StandardCharsets.UTF_8)).doesNotContain("Password123!");
+        assertThat(passwordCipher.decrypt(trackingId, command.encryptedPassword())).isEqualTo("Password123!");
+    }
+
+    @Test
+    @DisplayName("가입 명령 배치를 처리하고 일시적 오류는 재시도한 뒤 결과를 상태 토픽으로 발행한다")
+    void handle_batch_with_retry() throws Exception {
+        // Given
+        UserRegister ok = UserRegister.builder().username("user1").password("Password123!").build();
+        UserRegister flaky = UserRegister.builder().username("user2").password("Password123!").build();
+        willThrow(new ResourceAccessException("timeout"))
+            .willDoNothing()
+            .given(registerService).register(flaky);
+
+        List<SignupCommand> batch = List.of(command(ok), command(flaky));
+
+        // When
+        List<byte[]> payload = List.of(objectMapper.writeValueAsBytes(batch.get(0)), objectMapper.writeValueAsBytes(batch.get(1)));
+        input.send(MessageBuilder.withPayload(payload).build(), "test.signup.command");
+
+        // Then
+        for (int i = 0; i < batch.size(); i++) {
+            Message<byte[]> message = output.receive(1000, "user.signup.status");
+            SignupStatus status = objectMapper.readValue(message.getPayload(), SignupStatus.class);
+            assertThat(status.state()).isEqualTo(SignupStatus.State.SUCCESS);
+        }
+        verify(registerService, times(3)).register(any(UserRegister.class));
+    }
+
+    @Test
+    @DisplayName("이미 생성된 뒤 재전달된 명령은 409 가 나도 성공, 다른 사용자가 먼저 가입한 경우는 실패로 처리한다")
+    void handle_redelivered() throws Exception {
+        // Given
+        SignupCommand redelivered = command(UserRegister.builder().username("user1").password("Password123!").build());
+        SignupCommand taken = command(UserRegister.builder().username("user2").password("Password123!").build());
+        willThrow(new UserAlreadyExistsException("user", null)).given(registerService).register(any(UserRegister.class));
+        given(registerService.isRegisteredSince(eq(redelivered.user()), eq(redelivered.submittedAt()))).willReturn(true);
+        given(registerService.isRegisteredSince(eq(taken.user()), eq(taken.submittedAt()))).willReturn(false);
+
+        // When
+        signupService.handle(List.of(redelivered, taken));
+
+        // Then
+        Map<UUID, SignupStatus.State> states = new HashMap<>();
+        for (int i = 0; i < 2; i++) {
+            SignupStatus status = objectMapper.readValue(output.receive(1000, "user.signup.status").getPayload(), SignupStatus.class);
+            states.put(status.trackingId(), status.state());
+        }
+        assertThat(states).containsEntry(redelivered.trackingId(), SignupStatus.State.SUCCESS)
+            .containsEntry(taken.trackingId(), SignupStatus.State.FAILED);
+    }
+
+    @Test
+    @DisplayName("상태 토픽으로 수신한 처리 결과가 조회된다")
+    void onStatus() throws Exception {
+        // Given
+        UUID trackingId = UUID.randomUUID();
+
+        // When
+        input.send(MessageBuilder.withPayload(objectMapper.writeValueAsBytes(
+            SignupStatus.failed(trackingId, "Conflict"))).build(), "test.signup.status");
+
+        // Then
+        assertThat(signupService.getStatus(trackingId)).get()
+            .extracting(SignupStatus::state).isEqualTo(SignupStatus.State.FAILED);
+    }
+
+    // 발행 시와 같이 비밀번호는 암호화하고 user 에서는 제외
+    private SignupCommand command(UserRegister user) {
+        UUID trackingId = UUID.randomUUID();
+        UserRegister withoutPassword = new UserRegister(user.username(), null, user.email(), user.firstName(), user.lastName(), user.mobile());
+        return new SignupCommand(trackingId, withoutPassword, passwordCipher.encrypt(trackingId, user.password()), Instant.now());
+    }
+}
@@ -0,0 +1,230 @@
+package org.bangbang.userservice.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.bangbang.userservice.application.dto.TokenInfo;
+import org.bangbang.userservice.application.dto.UserRegister;
+import org.bangbang.userservice.application.dto.UserUpdate;
+import org.bangbang.userservice.infrastructure.keycloak.api.KeycloakTokenGenerateService;
+import org.bangbang.userservice.infrastructure.keycloak.cache.RealmRoleCache;
+import org.bangbang.userservice.infrastructure.keycloak.cache.UserProfileCache;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.bangbang.userservice.infrastructure.keycloak.resilience.KeycloakResilience;
+import org.bangbang.userservice.infrastructure.keycloak.stub.KeycloakStub;
+import org.bangbang.userservice.infrastructure.search.UserSearchIndex;
+import org.bangbang.userservice.infrastructure.stream.UserEventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.KeycloakBuilder;
+import org.keycloak.representations.idm.UserRepresentation;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+
+// 실제 Keycloak admin client 로 KeycloakStub 에 가입, 수정, 토큰 발급
+class KeycloakServicesStubTest {
+
+    private KeycloakStub stub;
+    private Keycloak keycloak;
+    private KeycloakProperties properties;
+    private RealmRoleCache roleCache;
+
+    @BeforeEach
+    void setUp() {
+        stub = new KeycloakStub("test");
+        properties = new KeycloakProperties();
+        properties.setServerUrl(stub.getServerUrl());
+        properties.setRealm("test");
+        properties.setClientId("user-service");
+        properties.setAdminUsername(KeycloakStub.ADMIN_USERNAME);
+        properties.setAdminPassword(KeycloakStub.ADMIN_PASSWORD);
+
+        keycloak = KeycloakBuilder.builder()
+            .serverUrl(properties.getServerUrl())
+            .realm(properties.getRealm())
+            .clientId(properties.getClientId())
+            .username(properties.getAdminUsername())
+            .password(properties.getAdminPassword())
+            .build();
+        roleCache = new RealmRoleCache(properties, keycloak, new SimpleMeterRegistry(), KeycloakResilience.ofDefaults());
+    }
+
+    @AfterEach
+    void tearDown() {
+        keycloak.close();
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("생성 요청의 Role 을 반영하는 Keycloak 이면 비밀번호와 기본 Role 이 한 번의 생성 요청으로 반영된다")
+    void register_single_call() {
+        // Given
+        stub.ignoreEmbeddedRoles(false);
+        UserRegisterService registerService = new UserRegisterService(properties, keycloak, roleCache, mock(UserSearchIndex.class), mock(UserEventPublisher.class), KeycloakResilience.ofDefaults());
+
+        // When
+        registerService.register(userRegister("user1"));
+        registerService.register(userRegister("user2"));
+        stub.resetRequestCounts();
+        registerService.register(userRegister("user3"));
+
+        // Then
+        UserRepresentation user = stub.findUser("user3");
+        assertThat(stub.realmRolesOf(user.getId())).contains("ROLE_USER");
+        assertThat(stub.requestCount("POST /admin/realms/{realm}/users")).isEqualTo(1);
+        assertThat(stub.requestCount("PUT /admin/realms/{realm}/users/{id}/reset-password")).isZero();
+        assertThat(stub.requestCount("GET /admin/realms/{realm}/users/{id}/role-mappings/realm")).isZero();
+    }
+
+    @Test
+    @DisplayName("생성 요청의 Role 을 무시하는 Keycloak 이면 Role 을 별도로 부여한다")
+    void register_fallback() {
+        // Given - 기본값, 실제 Keycloak 동작
+        UserRegisterService registerService = new UserRegisterService(properties, keycloak, roleCache, mock(UserSearchIndex.class), mock(UserEventPublisher.class), KeycloakResilience.ofDefaults());
+
+        // When
+        registerService.register(userRegister("user1"));
+        registerService.register(userRegister("user2"));
+
+        // Then
+        assertThat(stub.realmRolesOf(stub.findUser("user1").getId())).contains("ROLE_USER");
+        assertThat(stub.realmRolesOf(stub.findUser("user2").getId())).contains("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("가입 실패는 Keycloak 응답 상태 그대로 - 409 는 중복 가입, 5xx 는 서버 오류")
+    void register_failure_status() {
+        // Given
+        UserRegisterService registerService = new UserRegisterService(properties, keycloak, roleCache, mock(UserSearchIndex.class), mock(UserEventPublisher.class), KeycloakResilience.ofDefaults());
+        registerService.register(userRegister("user1"));
+
+        // When
+        Throwable duplicated = catchThrowable(() -> registerService.register(userRegister("user1")));
+        stub.errors(1.0, 503);
+        Throwable unavailable = catchThrowable(() -> registerService.register(userRegister("user2")));
+
+        // Then
+        assertThat(duplicated).isInstanceOf(UserAlreadyExistsException.class);
+        assertThat(unavailable).isInstanceOfSatisfying(HttpServerErrorException.class,
+            e -> assertThat(e.getStatusCode().value()).isEqualTo(503));
+    }
+
+    @Test
+    @DisplayName("가입 명령 재처리 확인 - 기준 시각 이후 같은 사용자명, 이메일로 생성된 사용자만 인정한다")
+    void isRegisteredSince() {
+        // Given
+        UserRegisterService registerService = new UserRegisterService(properties, keycloak, roleCache, mock(UserSearchIndex.class), mock(UserEventPublisher.class), KeycloakResilience.ofDefaults());
+        Instant submittedAt = Instant.now();
+        registerService.register(userRegister("user1"));
+
+        // When, Then
+        assertThat(registerService.isRegisteredSince(userRegister("user1"), submittedAt)).isTrue();
+        assertThat(registerService.isRegisteredSince(userRegister("user1"), submittedAt.plus(Duration.ofHours(1)))).isFalse(); // 먼저 가입한 다른 사용자
+        assertThat(registerService.isRegisteredSince(UserRegister.builder().username("user1").email("other@example.com").build(), submittedAt)).isFalse();
+        assertThat(registerService.isRegisteredSince(userRegister("user2"), submittedAt)).isFalse();
+    }
+
+    @Test
+    @DisplayName("회원 정보, Role 변경과 토큰 발급이 Keycloak 에 반영된다")
+    void update_and_token() {
+        // Given
+        UUID userId = UUID.fromString(stub.addUser("user1", "Password123!", "ROLE_USER"));
+        UserProfileCache userCache = new UserProfileCache(properties, mock(StreamBridge.class), new SimpleMeterRegistry());
+        UserUpdateService updateService = new UserUpdateService(properties, keycloak, roleCache, userCache, mock(UserSearchIndex.class), mock(UserEventPublisher.class), new SimpleMeterRegistry(), KeycloakResilience.ofDefaults());
+        KeycloakTokenGenerateService tokenService = new KeycloakTokenGenerateService(properties,
+            RestClient.builder().baseUrl(properties.getServerUrl()).build(), KeycloakResilience.ofDefaults());
+
+        // When
+        updateService.getUser(userId); // 캐시 적재
+        updateService.update(userId, new UserUpdate("길동", null, null, "01012345678")); // 휴대폰 번호 변경 - attributes 전송
+        updateService.updateUserRole(userId, List.of("ROLE_USER", "ROLE_MANAGER"));
+        updateService.updatePassword(userId, "NewPassword123!");
+        TokenInfo token = tokenService.generate("user1", "NewPassword123!");
+
+        // Then
+        UserRepresentation user = stub.findUser("user1");
+        assertThat(user.getFirstName()).isEqualTo("길동");
+        assertThat(user.getLastName()).isEqualTo("Test"); // 요청에 없던 항목도 유지
+        assertThat(user.getEmail()).isEqualTo("user1@example.com");
+        assertThat(user.getAttributes().get("mobile")).containsExactly("01012345678");
+        assertThat(updateService.getUser(userId).firstName()).isEqualTo("길동"); // 변경 시 캐시 무효화
+        assertThat(stub.realmRolesOf(userId.toString())).contains("ROLE_USER", "ROLE_MANAGER");
+        assertThat(token.access_token()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("refresh token 재발급 - 만료된 토큰, 잘못된 요청, client 설정 오류, 일시적 오류를 구분한다")
+    void refresh_token() throws InterruptedException {
+        // Given
+        stub.addUser("user1", "Password123!", "ROLE_USER");
+        KeycloakTokenGenerateService tokenService = new KeycloakTokenGenerateService(properties,
+            RestClient.builder().baseUrl(properties.getServerUrl()).build(), KeycloakResilience.ofDefaults());
+        TokenInfo token = tokenService.generate("user1", "Password123!");
+
+        // When
+        TokenInfo refreshed = tokenService.refresh(token.refresh_token());
+        stub.errors(1.0, 503);
+        Throwable failed = catchThrowable(() -> tokenService.refresh(token.refresh_token()));
+        stub.errors(0, 503).refreshTokenLifespan(Duration.ofSeconds(1));
+        String shortLived = tokenService.generate("user1", "Password123!").refresh_token();
+        Thread.sleep(1100);
+        Throwable expired = catchThrowable(() -> tokenService.refresh(shortLived));
+        Throwable invalid = catchThrowable(() -> tokenService.refresh(null));
+        stub.clientSecret("rotated-secret");
+        Throwable misconfigured = catchThrowable(() -> tokenService.refresh(token.refresh_token()));
+
+        // Then
+        assertThat(refreshed.access_token()).isNotBlank();
+        assertThat(failed).isInstanceOf(TokenRefreshException.class)
+            .extracting("reason").isEqualTo(TokenRefreshException.Reason.FAILED);
+        assertThat(expired).isInstanceOf(TokenRefreshException.class)
+            .extracting("reason").isEqualTo(TokenRefreshException.Reason.EXPIRED);
+        assertThat(invalid).isInstanceOf(TokenRefreshException.class)
+            .extracting("reason").isEqualTo(TokenRefreshException.Reason.INVALID_REQUEST);
+        assertThat(misconfigured).isInstanceOf(TokenRefreshException.class)
+            .extracting("reason").isEqualTo(TokenRefreshException.Reason.CLIENT_MISCONFIGURED);
+    }
+
+    @Test
+    @DisplayName("전체 사용자를 페이지 단위로 내보내고, cursor 위치부터 이어서 내보낸다")
+    void export_users() {
+        // Given
+        for (int i = 1; i <= 5; i++) {
+            stub.addUser("user" + i, "Password123!", "ROLE_USER");
+        }
+        UserExportService exportService = new UserExportService(properties, keycloak, KeycloakResilience.ofDefaults(), 2);
+        List<String> all = new ArrayList<>();
+        List<String> resumed = new ArrayList<>();
+
+        // When
+        long end = exportService.export(0, user -> all.add(user.username()));
+        exportService.export(3, user -> resumed.add(user.username()));
+
+        // Then
+        assertThat(all).containsExactly("user1", "user2", "user3", "user4", "user5");
+        assertThat(end).isEqualTo(5);
+        assertThat(resumed).containsExactly("user4", "user5");
+    }
+
+    private UserRegister userRegister(String username) {
+        return UserRegister.builder()
+            .username(username)
+            .password("Password123!")
+            .email(username + "@example.com")
+            .firstName("GilDong")
+            .lastName("Hong")
+            .mobile("01012345678")
+            .build();
+    }
+}
@@ -0,0 +1,97 @@
+package org.bangbang.userservice.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import jakarta.ws.rs.ServiceUnavailableException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.bangbang.userservice.application.dto.UserProfile;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.bangbang.userservice.infrastructure.keycloak.resilience.KeycloakResilience;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.resource.UsersResource;
+import org.keycloak.representations.idm.UserRepresentation;
+
+class UserExportServiceTest {
+
+    private final Keycloak keycloak = mock(Keycloak.class, RETURNS_DEEP_STUBS);
+    private UsersResource usersResource;
+    private UserExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        KeycloakProperties properties = new KeycloakProperties();
+        properties.setRealm("test");
+        usersResource = keycloak.realm("test").users();
+        exportService = new UserExportService(properties, keycloak, KeycloakResilience.ofDefaults(), 2);
+    }
+
+    @Test
+    @DisplayName("현재 페이지를 전달하는 동안 다음 페이지를 미리 조회하고, 마지막 페이지에서 끝낸다")
+    void export_prefetch() throws InterruptedException {
+        // Given
+        CountDownLatch prefetched = new CountDownLatch(1);
+        given(usersResource.list(0, 2)).willReturn(List.of(user("user1"), user("user2")));
+        given(usersResource.list(2, 2)).willAnswer(invocation -> {
+            prefetched.countDown();
+            return List.of(user("user3"));
+        });
+        List<String> exported = new ArrayList<>();
+        List<Boolean> prefetchedWhileWriting = new ArrayList<>();
+
+        // When
+        long cursor = exportService.export(0, profile -> {
+            if (exported.isEmpty()) {
+                prefetchedWhileWriting.add(await(prefetched)); // 첫 페이지를 쓰는 중에 다음 페이지 조회 시작
+            }
+            exported.add(profile.username());
+        });
+
+        // Then
+        assertThat(prefetchedWhileWriting).containsExactly(true);
+        assertThat(exported).containsExactly("user1", "user2", "user3");
+        assertThat(cursor).isEqualTo(3);
+        verify(usersResource, never()).list(3, 2); // 마지막 페이지(pageSize 미만) 다음은 조회하지 않는다
+    }
+
+    @Test
+    @DisplayName("cursor 위치부터 다시 내보내고, 페이지 조회 실패는 그대로 전달한다")
+    void export_resume() {
+        // Given
+        given(usersResource.list(4, 2)).willReturn(List.of(user("user5"), user("user6")));
+        given(usersResource.list(6, 2)).willThrow(new ServiceUnavailableException());
+        List<UserProfile> exported = new ArrayList<>();
+
+        // When & Then
+        assertThatThrownBy(() -> exportService.export(4, exported::add)).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(exported).extracting(UserProfile::username).containsExactly("user5", "user6");
+    }
+
+    private boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private UserRepresentation user(String username) {
+        UserRepresentation user = new UserRepresentation();
+        user.setId(UUID.randomUUID().toString());
+        user.setUsername(username);
+        return user;
+    }
+}
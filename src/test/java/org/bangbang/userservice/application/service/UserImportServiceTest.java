@@ -0,0 +1,78 @@
+package org.bangbang.userservice.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import org.bangbang.userservice.application.dto.UserImportCommand;
+import org.bangbang.userservice.application.dto.UserImportResult;
+import org.bangbang.userservice.application.dto.UserRegister;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+class UserImportServiceTest {
+
+    private final UserRegisterService registerService = mock(UserRegisterService.class);
+
+    @Test
+    @DisplayName("일부 레코드가 실패해도 나머지 레코드는 모두 처리된다")
+    void importUsers_partial_failure() {
+        // Given
+        UserImportService importService = new UserImportService(registerService, 4);
+        willThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST, "Conflict"))
+            .given(registerService).register(UserRegister.builder().username("user2").build());
+
+        List<UserImportCommand> commands = List.of(
+            UserImportCommand.of(1, UserRegister.builder().username("user1").build()),
+            UserImportCommand.of(2, UserRegister.builder().username("user2").build()),
+            UserImportCommand.invalid(3, "user3", "비밀번호가 일치하지 않습니다."),
+            UserImportCommand.of(4, UserRegister.builder().username("user4").build()));
+        List<UserImportResult> results = new CopyOnWriteArrayList<>();
+
+        // When
+        importService.importUsers(commands.iterator(), results::add);
+
+        // Then
+        assertThat(results).hasSize(4);
+        assertThat(results).filteredOn(UserImportResult::success)
+            .extracting(UserImportResult::line).containsExactlyInAnyOrder(1L, 4L);
+        assertThat(results).filteredOn(r -> !r.success())
+            .extracting(UserImportResult::line).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("동시에 처리되는 가입 요청 수는 parallelism 을 넘지 않는다")
+    void importUsers_bounded_parallelism() {
+        // Given
+        int parallelism = 3;
+        UserImportService importService = new UserImportService(registerService, parallelism);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        willAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            inFlight.decrementAndGet();
+            return null;
+        }).given(registerService).register(any(UserRegister.class));
+
+        List<UserImportCommand> commands = LongStream.rangeClosed(1, 50)
+            .mapToObj(i -> UserImportCommand.of(i, UserRegister.builder().username("user" + i).build()))
+            .toList();
+        List<UserImportResult> results = new CopyOnWriteArrayList<>();
+
+        // When
+        importService.importUsers(commands.iterator(), results::add);
+
+        // Then
+        assertThat(results).hasSize(50).allMatch(UserImportResult::success);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(parallelism);
+    }
+}
@@ -0,0 +1,252 @@
+package org.bangbang.userservice.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.ws.rs.NotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.bangbang.userservice.application.dto.UserEvent;
+import org.bangbang.userservice.application.dto.UserProfile;
+import org.bangbang.userservice.application.dto.UserRolesChanged;
+import org.bangbang.userservice.application.dto.UserUpdate;
+import org.bangbang.userservice.infrastructure.keycloak.cache.RealmRoleCache;
+import org.bangbang.userservice.infrastructure.keycloak.cache.UserProfileCache;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.bangbang.userservice.infrastructure.keycloak.resilience.KeycloakResilience;
+import org.bangbang.userservice.infrastructure.search.UserSearchIndex;
+import org.bangbang.userservice.infrastructure.stream.UserEventPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.resource.RoleScopeResource;
+import org.keycloak.admin.client.resource.UserResource;
+import org.keycloak.representations.idm.RoleRepresentation;
+import org.keycloak.representations.idm.UserRepresentation;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cloud.stream.function.StreamBridge;
+
+class UserUpdateServiceTest {
+
+    private final Keycloak keycloak = mock(Keycloak.class, RETURNS_DEEP_STUBS);
+    private final RealmRoleCache roleCache = mock(RealmRoleCache.class);
+    private final StreamBridge streamBridge = mock(StreamBridge.class);
+    private final UserSearchIndex searchIndex = mock(UserSearchIndex.class);
+    private final UserEventPublisher eventPublisher = mock(UserEventPublisher.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UUID userId = UUID.randomUUID();
+    private RoleScopeResource resource;
+    private UserUpdateService updateService;
+
+    @BeforeEach
+    void setUp() {
+        KeycloakProperties properties = new KeycloakProperties();
+        properties.setRealm("test");
+        resource = keycloak.realm("test").users().get(userId.toString()).roles().realmLevel();
+        UserProfileCache userCache = new UserProfileCache(properties, streamBridge, meterRegistry);
+        updateService = new UserUpdateService(properties, keycloak, roleCache, userCache, searchIndex, eventPublisher, meterRegistry, KeycloakResilience.ofDefaults());
+    }
+
+    @Test
+    @DisplayName("요청한 Role 이 현재 Role 과 같으면 Keycloak 에 반영하지 않는다")
+    void updateUserRole_unchanged() {
+        // Given
+        given(resource.listAll()).willReturn(List.of(role("ROLE_USER"), role("ROLE_ADMIN")));
+
+        // When
+        updateService.updateUserRole(userId, List.of("ROLE_ADMIN", "ROLE_USER"));
+
+        // Then
+        verify(resource, never()).add(anyList());
+        verify(resource, never()).remove(anyList());
+        verify(eventPublisher, never()).publish(any());
+        assertThat(meterRegistry.get("user.role.update.skipped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("달라진 Role 만 추가, 제거한다")
+    void updateUserRole_diff() {
+        // Given
+        RoleRepresentation user = role("ROLE_USER");
+        RoleRepresentation manager = role("ROLE_MANAGER");
+        RoleRepresentation admin = role("ROLE_ADMIN");
+        given(resource.listAll()).willReturn(List.of(user, manager));
+        given(roleCache.getAll(List.of("ROLE_ADMIN"))).willReturn(List.of(admin));
+
+        // When
+        updateService.updateUserRole(userId, List.of("ROLE_USER", "ROLE_ADMIN"));
+
+        // Then
+        verify(resource).add(List.of(admin));
+        verify(resource).remove(List.of(manager));
+        verify(roleCache, never()).get(any());
+
+        ArgumentCaptor<UserEvent> event = ArgumentCaptor.forClass(UserEvent.class);
+        verify(eventPublisher).publish(event.capture());
+        assertThat(event.getValue()).isInstanceOfSatisfying(UserRolesChanged.class, changed -> {
+            assertThat(changed.userId()).isEqualTo(userId);
+            assertThat(changed.roles()).containsExactly("ROLE_USER", "ROLE_ADMIN");
+            assertThat(changed.added()).containsExactly("ROLE_ADMIN");
+            assertThat(changed.removed()).containsExactly("ROLE_MANAGER");
+        });
+    }
+
+    @Test
+    @DisplayName("회원 정보가 현재 정보와 같으면 수정 요청을 보내지 않는다")
+    void update_unchanged() {
+        // Given
+        given(keycloak.realm("test").users().get(userId.toString()).toRepresentation())
+            .willReturn(user("GilDong", "Hong", "test@test.com", "01012345678"));
+
+        // When
+        updateService.update(userId, new UserUpdate("GilDong", "Hong", "TEST@test.com", "01012345678"));
+
+        // Then
+        verify(keycloak.realm("test").users().get(userId.toString()), never()).update(any());
+        assertThat(meterRegistry.get("user.profile.update.skipped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("달라진 항목만 담아 수정 요청을 보낸다")
+    void update_changed_fields_only() {
+        // Given
+        given(keycloak.realm("test").users().get(userId.toString()).toRepresentation())
+            .willReturn(user("GilDong", "Hong", "test@test.com", "01012345678"));
+
+        // When
+        updateService.update(userId, new UserUpdate("Gildong", "Hong", null, null));
+
+        // Then
+        ArgumentCaptor<UserRepresentation> captor = ArgumentCaptor.forClass(UserRepresentation.class);
+        verify(keycloak.realm("test").users().get(userId.toString())).update(captor.capture());
+        UserRepresentation changes = captor.getValue();
+        assertThat(changes.getFirstName()).isEqualTo("Gildong");
+        assertThat(changes.getLastName()).isNull();
+        assertThat(changes.getEmail()).isNull();
+        assertThat(changes.getAttributes()).isNull();
+        verify(searchIndex).upsert(new UserProfile(userId, null, "test@test.com", "Gildong", "Hong", "01012345678"));
+    }
+
+    @Test
+    @DisplayName("휴대폰 번호가 바뀌면 attributes 와 함께 현재 이름, 이메일도 전송한다 (User Profile 이 빠진 항목을 삭제하지 않도록)")
+    void update_mobile_keeps_root_fields() {
+        // Given
+        UserRepresentation current = user("GilDong", "Hong", "test@test.com", "01012345678");
+        current.setUsername("gildong");
+        given(keycloak.realm("test").users().get(userId.toString()).toRepresentation()).willReturn(current);
+
+        // When
+        updateService.update(userId, new UserUpdate("Gildong", null, null, "01099998888"));
+
+        // Then
+        ArgumentCaptor<UserRepresentation> captor = ArgumentCaptor.forClass(UserRepresentation.class);
+        verify(keycloak.realm("test").users().get(userId.toString())).update(captor.capture());
+        UserRepresentation changes = captor.getValue();
+        assertThat(changes.getUsername()).isEqualTo("gildong");
+        assertThat(changes.getFirstName()).isEqualTo("Gildong");
+        assertThat(changes.getLastName()).isEqualTo("Hong");
+        assertThat(changes.getEmail()).isEqualTo("test@test.com");
+        assertThat(changes.getAttributes()).containsEntry("mobile", List.of("01099998888"));
+        verify(searchIndex).upsert(new UserProfile(userId, "gildong", "test@test.com", "Gildong", "Hong", "01099998888"));
+    }
+
+    @Test
+    @DisplayName("사용자 정보는 캐시에서 응답하고, 회원 정보를 변경하면 무효화를 전파한 뒤 다시 조회한다")
+    void getUser_cached_until_update() {
+        // Given
+        UserResource userResource = keycloak.realm("test").users().get(userId.toString());
+        given(userResource.toRepresentation())
+            .willReturn(user("GilDong", "Hong", "test@test.com", "01012345678"))
+            .willReturn(user("GilDong", "Hong", "test@test.com", "01012345678"))
+            .willReturn(user("Gildong", "Hong", "test@test.com", "01012345678"));
+
+        // When
+        updateService.getUser(userId);
+        UserProfile cached = updateService.getUser(userId);
+        updateService.update(userId, new UserUpdate("Gildong", null, null, null));
+        UserProfile updated = updateService.getUser(userId);
+
+        // Then
+        assertThat(cached.firstName()).isEqualTo("GilDong");
+        assertThat(cached.mobile()).isEqualTo("01012345678");
+        assertThat(updated.firstName()).isEqualTo("Gildong");
+        verify(userResource, times(3)).toRepresentation(); // 조회, 수정 전 조회, 무효화 후 조회
+        verify(streamBridge, timeout(1000)).send(UserProfileCache.INVALIDATION_BINDING, userId); // 전파 스레드에서 전송
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 요청 순서대로 반환하고, 없는 사용자는 제외한다")
+    void getUsers() {
+        // Given
+        UUID otherId = UUID.randomUUID();
+        UUID unknownId = UUID.randomUUID();
+        given(keycloak.realm("test").users().get(userId.toString()).toRepresentation())
+            .willReturn(user("GilDong", "Hong", "test@test.com", "01012345678"));
+        given(keycloak.realm("test").users().get(otherId.toString()).toRepresentation())
+            .willReturn(user("Chunhyang", "Sung", "other@test.com", "01087654321"));
+        given(keycloak.realm("test").users().get(unknownId.toString()).toRepresentation())
+            .willThrow(new NotFoundException());
+
+        // When
+        List<UserProfile> users = updateService.getUsers(List.of(otherId, unknownId, userId, otherId));
+
+        // Then
+        assertThat(users).extracting(UserProfile::userId).containsExactly(otherId, userId);
+        assertThatThrownBy(() -> updateService.getUser(unknownId)).isInstanceOf(UserNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 캐시에 없는 사용자가 많아도 lookupParallelism 건까지만 동시에 조회한다")
+    void getUsers_bounded() {
+        // Given - 캐시에 없는 사용자 30명 (Keycloak 동시 호출 한도 20 초과)
+        List<UUID> userIds = new ArrayList<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        for (int i = 0; i < 30; i++) {
+            UUID id = UUID.randomUUID();
+            userIds.add(id);
+            given(keycloak.realm("test").users().get(id.toString()).toRepresentation()).willAnswer(invocation -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(20);
+                running.decrementAndGet();
+                return user("GilDong", "Hong", "test@test.com", "01012345678");
+            });
+        }
+
+        // When
+        List<UserProfile> users = updateService.getUsers(userIds);
+
+        // Then
+        assertThat(users).extracting(UserProfile::userId).containsExactlyElementsOf(userIds);
+        assertThat(maxRunning.get()).isBetween(2, 8);
+    }
+
+    private UserRepresentation user(String firstName, String lastName, String email, String mobile) {
+        UserRepresentation user = new UserRepresentation();
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setEmail(email);
+        user.setAttributes(Map.of("mobile", List.of(mobile)));
+        return user;
+    }
+
+    private RoleRepresentation role(String name) {
+        RoleRepresentation role = new RoleRepresentation();
+        role.setName(name);
+        return role;
+    }
+}
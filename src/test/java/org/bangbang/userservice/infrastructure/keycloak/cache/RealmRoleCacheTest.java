@@ -0,0 +1,88 @@
+package org.bangbang.userservice.infrastructure.keycloak.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.bangbang.userservice.infrastructure.keycloak.resilience.KeycloakResilience;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.resource.RolesResource;
+import org.keycloak.representations.idm.RoleRepresentation;
+
+class RealmRoleCacheTest {
+
+    private final Keycloak keycloak = mock(Keycloak.class, RETURNS_DEEP_STUBS);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RolesResource rolesResource;
+    private RealmRoleCache cache;
+
+    @BeforeEach
+    void setUp() {
+        KeycloakProperties properties = new KeycloakProperties();
+        properties.setRealm("test");
+        rolesResource = keycloak.realm("test").roles();
+        cache = new RealmRoleCache(properties, keycloak, meterRegistry, KeycloakResilience.ofDefaults());
+    }
+
+    @Test
+    @DisplayName("같은 Role 을 두 번 조회하면 Keycloak 은 한 번만 호출된다")
+    void get_cached() {
+        // Given
+        given(rolesResource.get("ROLE_USER").toRepresentation()).willReturn(role("ROLE_USER"));
+
+        // When
+        cache.get("ROLE_USER");
+        RoleRepresentation role = cache.get("ROLE_USER");
+
+        // Then
+        assertThat(role.getName()).isEqualTo("ROLE_USER");
+        verify(rolesResource.get("ROLE_USER"), times(1)).toRepresentation();
+        assertThat(meterRegistry.get("keycloak.realm.role.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("keycloak.realm.role.cache").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 적재 후에는 Keycloak 조회 없이 Role 을 반환한다")
+    void preload() {
+        // Given
+        given(rolesResource.list()).willReturn(List.of(role("ROLE_USER"), role("ROLE_ADMIN")));
+
+        // When
+        cache.preload();
+        List<RoleRepresentation> roles = cache.getAll(List.of("ROLE_USER", "ROLE_ADMIN"));
+
+        // Then
+        assertThat(roles).extracting(RoleRepresentation::getName).containsExactly("ROLE_USER", "ROLE_ADMIN");
+        verify(rolesResource.get("ROLE_USER"), times(0)).toRepresentation();
+    }
+
+    @Test
+    @DisplayName("무효화된 Role 은 다시 Keycloak 에서 조회한다")
+    void invalidate() {
+        // Given
+        given(rolesResource.get("ROLE_USER").toRepresentation()).willReturn(role("ROLE_USER"));
+        cache.get("ROLE_USER");
+
+        // When
+        cache.invalidate("ROLE_USER");
+        cache.get("ROLE_USER");
+
+        // Then
+        verify(rolesResource.get("ROLE_USER"), times(2)).toRepresentation();
+    }
+
+    private RoleRepresentation role(String name) {
+        RoleRepresentation role = new RoleRepresentation();
+        role.setName(name);
+        return role;
+    }
+}
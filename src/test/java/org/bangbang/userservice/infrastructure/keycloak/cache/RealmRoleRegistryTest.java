@@ -0,0 +1,113 @@
+package org.bangbang.userservice.infrastructure.keycloak.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.aopalliance.intercept.MethodInvocation;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.bangbang.userservice.infrastructure.keycloak.converter.RealmRoleAuthenticationConverter;
+import org.bangbang.userservice.infrastructure.security.RealmRoleAuthenticationToken;
+import org.bangbang.userservice.infrastructure.security.RealmRoleAuthorizationManager;
+import org.bangbang.userservice.infrastructure.security.RealmRoleMethodSecurityExpressionHandler;
+import org.bangbang.userservice.infrastructure.security.RoleSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.keycloak.admin.client.Keycloak;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+class RealmRoleRegistryTest {
+
+    private RealmRoleRegistry registry;
+    private RealmRoleAuthenticationConverter converter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new RealmRoleRegistry(new KeycloakProperties(), mock(Keycloak.class));
+        converter = new RealmRoleAuthenticationConverter(registry);
+        registry.setComposites(Map.of(
+            "ROLE_ADMIN", List.of("ROLE_MANAGER"),
+            "ROLE_MANAGER", List.of("ROLE_USER", "ROLE_ADMIN"))); // 순환 포함
+    }
+
+    @Test
+    @DisplayName("Composite Role 은 하위 Role 까지 전개된다")
+    void resolve_composites() {
+        // When
+        RoleSet roles = registry.resolve(List.of("ROLE_ADMIN", "offline_access"));
+
+        // Then
+        assertThat(roles.contains(registry.roleIndex("ADMIN"))).isTrue();
+        assertThat(roles.contains(registry.roleIndex("MANAGER"))).isTrue();
+        assertThat(roles.contains(registry.roleIndex("ROLE_USER"))).isTrue();
+        assertThat(registry.authorities(roles)).extracting("authority")
+            .containsExactlyInAnyOrder("ROLE_ADMIN", "ROLE_MANAGER", "ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("같은 Role 구성이면 GrantedAuthority 목록을 재사용한다")
+    void shared_authorities() {
+        // When
+        RealmRoleAuthenticationToken first = (RealmRoleAuthenticationToken) converter.convert(jwt(List.of("ROLE_USER", "offline_access")));
+        RealmRoleAuthenticationToken second = (RealmRoleAuthenticationToken) converter.convert(jwt(List.of("offline_access", "ROLE_USER")));
+
+        // Then
+        assertThat(first.getRoles()).isEqualTo(second.getRoles());
+        assertThat(first.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThat(second.getAuthorities().iterator().next()).isSameAs(first.getAuthorities().iterator().next());
+    }
+
+    @Test
+    @DisplayName("URL 과 @PreAuthorize 의 hasRole 을 RoleSet 으로 판단한다")
+    void has_role() throws NoSuchMethodException {
+        // Given
+        RealmRoleAuthenticationToken user = (RealmRoleAuthenticationToken) converter.convert(jwt(List.of("ROLE_USER")));
+        RealmRoleAuthenticationToken manager = (RealmRoleAuthenticationToken) converter.convert(jwt(List.of("ROLE_MANAGER")));
+        RealmRoleAuthorizationManager<Object> requireUser = RealmRoleAuthorizationManager.hasRole(registry, "USER");
+        RealmRoleMethodSecurityExpressionHandler handler = new RealmRoleMethodSecurityExpressionHandler(registry);
+
+        // When & Then
+        assertThat(requireUser.check(() -> user, null).isGranted()).isTrue();
+        assertThat(requireUser.check(() -> manager, null).isGranted()).isTrue(); // ROLE_MANAGER -> ROLE_USER 포함
+        assertThat(preAuthorize(handler, user, "hasRole('ADMIN')")).isFalse();
+        assertThat(preAuthorize(handler, manager, "hasRole('ADMIN') and hasAnyRole('USER', 'GUEST')")).isTrue();
+        assertThat(preAuthorize(handler, user, "hasAnyAuthority('SCOPE_profile', 'ROLE_USER')")).isTrue();
+    }
+
+    @Test
+    @DisplayName("@PreAuthorize 의 principal, permitAll, denyAll 등 기본 SpEL 항목도 그대로 사용할 수 있다")
+    void default_expression_root() throws NoSuchMethodException {
+        // Given
+        RealmRoleAuthenticationToken user = (RealmRoleAuthenticationToken) converter.convert(jwt(List.of("ROLE_USER")));
+        RealmRoleMethodSecurityExpressionHandler handler = new RealmRoleMethodSecurityExpressionHandler(registry);
+
+        // When & Then
+        assertThat(preAuthorize(handler, user, "principal.subject == 'user-1' and hasRole('USER')")).isTrue();
+        assertThat(preAuthorize(handler, user, "permitAll")).isTrue();
+        assertThat(preAuthorize(handler, user, "denyAll or hasRole('ADMIN')")).isFalse();
+        assertThat(preAuthorize(handler, user, "isAuthenticated() and !isAnonymous()")).isTrue();
+    }
+
+    private boolean preAuthorize(RealmRoleMethodSecurityExpressionHandler handler, RealmRoleAuthenticationToken authentication, String expression) throws NoSuchMethodException {
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        given(invocation.getThis()).willReturn(this);
+        given(invocation.getMethod()).willReturn(Object.class.getMethod("toString"));
+        EvaluationContext context = handler.createEvaluationContext(() -> authentication, invocation);
+        return Boolean.TRUE.equals(new SpelExpressionParser().parseExpression(expression).getValue(context, Boolean.class));
+    }
+
+    private Jwt jwt(List<String> roles) {
+        return Jwt.withTokenValue("token")
+            .header("alg", "RS256")
+            .subject("user-1")
+            .expiresAt(Instant.now().plusSeconds(300))
+            .claim("realm_access", Map.of("roles", roles))
+            .build();
+    }
+}
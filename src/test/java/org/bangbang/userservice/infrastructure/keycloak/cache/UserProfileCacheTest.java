@@ -0,0 +1,97 @@
+package org.bangbang.userservice.infrastructure.keycloak.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.bangbang.userservice.application.dto.UserProfile;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.stream.function.StreamBridge;
+
+class UserProfileCacheTest {
+    private final KeycloakProperties properties = new KeycloakProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("조회 중에 무효화되면 조회 결과를 캐시에 남기지 않는다")
+    void invalidateWhileLoading() {
+        // Given
+        UserProfileCache cache = new UserProfileCache(properties, mock(StreamBridge.class), meterRegistry);
+        UUID userId = UUID.randomUUID();
+
+        // When
+        UserProfile loaded = cache.get(userId, id -> {
+            cache.invalidate(id); // 변경 전 정보를 읽는 사이 다른 인스턴스에서 변경
+            return profile(id, "before");
+        });
+
+        // Then
+        assertThat(loaded.firstName()).isEqualTo("before");
+        assertThat(cache.getIfPresent(userId)).isNull();
+    }
+
+    @Test
+    @DisplayName("최대 건수를 넘으면 항목을 제거하고, 없는 사용자는 캐시하지 않는다")
+    void bounded() {
+        // Given
+        properties.getUserCache().setMaxSize(100);
+        UserProfileCache cache = new UserProfileCache(properties, mock(StreamBridge.class), meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        UUID unknownId = UUID.randomUUID();
+
+        // When
+        for (int i = 0; i < 1000; i++) {
+            cache.get(UUID.randomUUID(), id -> profile(id, "user"));
+        }
+        cache.get(unknownId, id -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        cache.get(unknownId, id -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        // Then
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.get("keycloak.user.cache").tag("result", "miss").counter().count()).isEqualTo(1002);
+    }
+
+    @Test
+    @DisplayName("무효화 전파가 막혀도 evict 는 기다리지 않고 자기 인스턴스의 항목을 즉시 제거한다")
+    void evictDoesNotWaitForBroadcast() throws InterruptedException {
+        // Given - 브로커 연결 불가로 전송이 막힘
+        StreamBridge streamBridge = mock(StreamBridge.class);
+        CountDownLatch brokerDown = new CountDownLatch(1);
+        UserProfileCache cache = new UserProfileCache(properties, streamBridge, meterRegistry);
+        UUID userId = UUID.randomUUID();
+        given(streamBridge.send(UserProfileCache.INVALIDATION_BINDING, userId)).willAnswer(invocation -> brokerDown.await(5, TimeUnit.SECONDS));
+        cache.get(userId, id -> profile(id, "before"));
+
+        // When
+        long started = System.nanoTime();
+        cache.evict(userId);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // Then
+        assertThat(elapsed).isLessThan(1000);
+        assertThat(cache.getIfPresent(userId)).isNull();
+        brokerDown.countDown();
+        verify(streamBridge, timeout(1000)).send(UserProfileCache.INVALIDATION_BINDING, userId);
+        cache.close();
+    }
+
+    private UserProfile profile(UUID userId, String firstName) {
+        return new UserProfile(userId, "user1", "user1@test.com", firstName, "Hong", null);
+    }
+}
@@ -0,0 +1,61 @@
+package org.bangbang.userservice.infrastructure.keycloak.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.bangbang.userservice.infrastructure.keycloak.stub.KeycloakStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.keycloak.admin.client.Keycloak;
+
+class KeycloakAdminTokenRefresherTest {
+    private static final String TOKEN = "POST /realms/{realm}/protocol/openid-connect/token";
+
+    private KeycloakStub stub;
+    private Keycloak keycloak;
+    private KeycloakAdminTokenRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        stub = new KeycloakStub("test").accessTokenLifespan(Duration.ofSeconds(32)); // minTokenValidity 30초 -> 약 1.6초 후 갱신
+
+        KeycloakProperties properties = new KeycloakProperties();
+        properties.setServerUrl(stub.getServerUrl());
+        properties.setRealm("test");
+        properties.setClientId("admin-cli");
+        properties.setAdminUsername(KeycloakStub.ADMIN_USERNAME);
+        properties.setAdminPassword(KeycloakStub.ADMIN_PASSWORD);
+        properties.getAdmin().setMaxConnections(4);
+
+        keycloak = new KeycloakConfig(properties).keycloak();
+        refresher = new KeycloakAdminTokenRefresher(properties, keycloak);
+    }
+
+    @AfterEach
+    void tearDown() {
+        refresher.stop();
+        keycloak.close();
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("admin 토큰은 기동 시 발급되고 만료 전에 백그라운드에서 갱신되어 요청 경로는 토큰 발급을 기다리지 않는다")
+    void refresh_in_background() throws InterruptedException {
+        // Given
+        refresher.start();
+        long issuedOnStart = stub.requestCount(TOKEN);
+
+        // When
+        Thread.sleep(2500);
+        long afterRefresh = stub.requestCount(TOKEN);
+        keycloak.realm("test").roles().list();
+        keycloak.realm("test").roles().list();
+
+        // Then
+        assertThat(issuedOnStart).isEqualTo(1);
+        assertThat(afterRefresh).isGreaterThanOrEqualTo(2);
+        assertThat(stub.requestCount(TOKEN)).isEqualTo(afterRefresh);
+    }
+}
@@ -0,0 +1,104 @@
+package org.bangbang.userservice.infrastructure.keycloak.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KeycloakConcurrencyLimiterTest {
+    private static final long NO_LOAD_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private KeycloakConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        KeycloakProperties.Limiter settings = new KeycloakProperties.Limiter();
+        settings.setInitialLimit(20);
+        settings.setMinLimit(4);
+        settings.setMaxLimit(100);
+        limiter = new KeycloakConcurrencyLimiter(KeycloakResilience.TOKEN, settings, meterRegistry);
+        limiter.onSample(NO_LOAD_RTT, 20, false); // rttNoLoad 측정
+    }
+
+    @Test
+    @DisplayName("동시 실행 수가 limit 에 도달하면 대기 없이 거절하고, 반환되면 다시 허가한다")
+    void rejectOverLimit() {
+        // Given
+        KeycloakConcurrencyLimiter.Permit[] permits = new KeycloakConcurrencyLimiter.Permit[20];
+        for (int i = 0; i < permits.length; i++) {
+            permits[i] = limiter.tryAcquire();
+        }
+
+        // When
+        KeycloakConcurrencyLimiter.Permit rejected = limiter.tryAcquire();
+        permits[0].ignore();
+        permits[0].ignore(); // 중복 반환은 무시
+        KeycloakConcurrencyLimiter.Permit acquired = limiter.tryAcquire();
+
+        // Then
+        assertThat(rejected).isNull();
+        assertThat(acquired).isNotNull();
+        assertThat(limiter.getInFlight()).isEqualTo(20);
+        assertThat(meterRegistry.get("keycloak.concurrency.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("keycloak.concurrency.limit").gauge().value()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("응답 시간이 지연 없는 수준이면 limit 을 늘린다")
+    void increaseWithoutQueue() {
+        // When
+        limiter.onSample(NO_LOAD_RTT, 20, false);
+
+        // Then
+        assertThat(limiter.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    @DisplayName("응답 시간이 늘어 대기열이 쌓이면 limit 을 줄이고, 시간 초과는 더 크게 줄인다")
+    void decreaseWithQueue() {
+        // When
+        limiter.onSample(NO_LOAD_RTT * 10, 20, false);
+        int afterQueue = limiter.getLimit();
+        limiter.onSample(NO_LOAD_RTT * 10, afterQueue, true);
+
+        // Then
+        assertThat(afterQueue).isLessThan(20);
+        assertThat(limiter.getLimit()).isEqualTo((int) (afterQueue * 0.9));
+    }
+
+    @Test
+    @DisplayName("측정 전 첫 응답이 시간 초과여도 rttNoLoad 로 쓰지 않고 limit 만 줄인다")
+    void droppedNotUsedAsNoLoad() {
+        // Given
+        KeycloakProperties.Limiter settings = new KeycloakProperties.Limiter();
+        settings.setInitialLimit(20);
+        settings.setMinLimit(4);
+        settings.setMaxLimit(100);
+        KeycloakConcurrencyLimiter fresh = new KeycloakConcurrencyLimiter(KeycloakResilience.TOKEN, settings, meterRegistry);
+
+        // When
+        fresh.onSample(NO_LOAD_RTT * 100, 20, true);
+        int afterDrop = fresh.getLimit();
+        fresh.onSample(NO_LOAD_RTT, 20, false); // rttNoLoad 측정
+        fresh.onSample(NO_LOAD_RTT, 20, false);
+
+        // Then
+        assertThat(afterDrop).isEqualTo(18);
+        assertThat(fresh.getLimit()).isGreaterThan(afterDrop);
+    }
+
+    @Test
+    @DisplayName("limit 의 절반도 사용하지 않는 구간의 응답 시간으로는 limit 을 바꾸지 않는다")
+    void ignoreAppLimited() {
+        // When
+        limiter.onSample(NO_LOAD_RTT * 10, 5, false);
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+}
@@ -0,0 +1,194 @@
+package org.bangbang.userservice.infrastructure.keycloak.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.ws.rs.ServerErrorException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.bangbang.userservice.application.service.AuthServerUnavailableException;
+import org.bangbang.userservice.application.service.AuthServerUnavailableException.Reason;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+class KeycloakResilienceTest {
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+        .slidingWindowSize(4)
+        .minimumNumberOfCalls(4)
+        .failureRateThreshold(50)
+        .waitDurationInOpenState(Duration.ofSeconds(10))
+        .ignoreExceptions(HttpClientErrorException.class)
+        .build());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final KeycloakResilience resilience = new KeycloakResilience(circuitBreakerRegistry,
+        BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO).build()),
+        TimeLimiterRegistry.of(TimeLimiterConfig.custom().timeoutDuration(Duration.ofMillis(200)).build()),
+        new KeycloakProperties(),
+        meterRegistry,
+        observationRegistry(meterRegistry));
+
+    @AfterEach
+    void tearDown() {
+        resilience.close();
+    }
+
+    @Test
+    @DisplayName("작업별 지연 시간을 outcome 과 함께 기록하고, 응답 상태 코드를 센다")
+    void instrumentation() {
+        // When
+        resilience.call(KeycloakResilience.USER_CREATE, () -> "created");
+        assertThatThrownBy(() -> resilience.call(KeycloakResilience.USER_CREATE, () -> {
+            throw new HttpClientErrorException(HttpStatus.CONFLICT);
+        }));
+
+        // Then
+        assertThat(meterRegistry.get("keycloak.client").tag("operation", KeycloakResilience.USER_CREATE).tag("outcome", "SUCCESS").timer().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("keycloak.client").tag("operation", KeycloakResilience.USER_CREATE).tag("outcome", "CLIENT_ERROR").timer().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("keycloak.client.responses").tag("status", "409").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("keycloak.client.responses").tag("status", "2xx").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Keycloak 오류가 누적되면 Circuit Breaker 가 열려 호출 없이 즉시 실패한다")
+    void circuitOpen() {
+        // Given
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> resilience.call(KeycloakResilience.USER_CREATE, () -> {
+                throw new ServerErrorException(503);
+            })).isInstanceOf(ServerErrorException.class);
+        }
+
+        // When, Then
+        assertThatThrownBy(() -> resilience.call(KeycloakResilience.USER_CREATE, () -> "created"))
+            .isInstanceOfSatisfying(AuthServerUnavailableException.class, e -> {
+                assertThat(e.getReason()).isEqualTo(Reason.CIRCUIT_OPEN);
+                assertThat(e.getRetryAfter()).isEqualTo(Duration.ofSeconds(10));
+            });
+        assertThat(resilience.call(KeycloakResilience.TOKEN, () -> "token")).isEqualTo("token"); // 다른 작업은 영향 없음
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 Keycloak 장애로 보지 않는다")
+    void clientErrorIgnored() {
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> resilience.call(KeycloakResilience.TOKEN, () -> {
+                throw new HttpClientErrorException(HttpStatus.UNAUTHORIZED);
+            })).isInstanceOf(HttpClientErrorException.class);
+        }
+
+        // Then
+        assertThat(circuitBreakerRegistry.circuitBreaker(KeycloakResilience.TOKEN).getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("제한 시간을 넘기면 호출을 인터럽트하고 TIMEOUT 으로 실패한다")
+    void timeout() throws InterruptedException {
+        // Given
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // When, Then
+        assertThatThrownBy(() -> resilience.run(KeycloakResilience.USER_UPDATE, () -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        })).isInstanceOfSatisfying(AuthServerUnavailableException.class, e -> assertThat(e.getReason()).isEqualTo(Reason.TIMEOUT));
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("사용자 생성 등 쓰기 작업은 제한 시간으로 중단하지 않고 결과를 기다린다")
+    void writeNotCancelled() {
+        // When
+        String userId = resilience.call(KeycloakResilience.USER_CREATE, () -> {
+            try {
+                Thread.sleep(400); // 제한 시간(200ms) 초과
+            } catch (InterruptedException e) {
+                throw new IllegalStateException("인터럽트되었습니다.", e);
+            }
+            return "user-1";
+        });
+
+        // Then
+        assertThat(userId).isEqualTo("user-1");
+        assertThat(meterRegistry.get("keycloak.client").tag("operation", KeycloakResilience.USER_CREATE).tag("outcome", "SUCCESS").timer().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시 호출 수를 넘으면 대기 없이 BULKHEAD_FULL 로 실패한다")
+    void bulkheadFull() throws InterruptedException {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread.ofVirtual().start(() -> resilience.run(KeycloakResilience.USER_ROLE_WRITE, () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ignored) {
+                // 종료
+            }
+        }));
+        started.await();
+
+        // When, Then
+        assertThatThrownBy(() -> resilience.call(KeycloakResilience.USER_ROLE_WRITE, () -> "role"))
+            .isInstanceOfSatisfying(AuthServerUnavailableException.class, e -> assertThat(e.getReason()).isEqualTo(Reason.BULKHEAD_FULL));
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("제한 시간이 지나도 끝나지 않은 호출이 스레드 상한을 채우면 새 호출은 OVERLOADED 로 실패한다")
+    void callThreadsExhausted() throws InterruptedException {
+        // Given - 인터럽트에 반응하지 않는 소켓 I/O
+        KeycloakProperties properties = new KeycloakProperties();
+        properties.getLimiter().setMaxCallThreads(1);
+        KeycloakResilience bounded = new KeycloakResilience(CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(),
+            TimeLimiterRegistry.of(TimeLimiterConfig.custom().timeoutDuration(Duration.ofMillis(100)).build()),
+            properties, meterRegistry, ObservationRegistry.NOOP);
+        CountDownLatch release = new CountDownLatch(1);
+        assertThatThrownBy(() -> bounded.run(KeycloakResilience.USER_UPDATE, () -> {
+            while (release.getCount() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException ignored) {
+                    // 인터럽트 무시
+                }
+            }
+        })).isInstanceOfSatisfying(AuthServerUnavailableException.class, e -> assertThat(e.getReason()).isEqualTo(Reason.TIMEOUT));
+
+        // When, Then
+        try {
+            assertThatThrownBy(() -> bounded.call(KeycloakResilience.USER_READ, () -> "user"))
+                .isInstanceOfSatisfying(AuthServerUnavailableException.class, e -> assertThat(e.getReason()).isEqualTo(Reason.OVERLOADED));
+        } finally {
+            release.countDown();
+            bounded.close();
+        }
+    }
+
+    private static ObservationRegistry observationRegistry(SimpleMeterRegistry meterRegistry) {
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        return registry;
+    }
+}
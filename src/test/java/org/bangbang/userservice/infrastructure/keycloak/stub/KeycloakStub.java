@@ -0,0 +1,525 @@
+package org.bangbang.userservice.infrastructure.keycloak.stub;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.keycloak.representations.idm.CredentialRepresentation;
+import org.keycloak.representations.idm.RoleRepresentation;
+import org.keycloak.representations.idm.UserRepresentation;
+
+/**
+ * 테스트용 인메모리 Keycloak
+ *  - UserRegisterService, UserUpdateService 가 사용하는 Admin REST API
+ *  - KeycloakTokenGenerateService 가 사용하는 토큰 엔드포인트 (RS256 서명 JWT 발급)
+ *  - JWT 검증용 JWKS, OpenID discovery 엔드포인트
+ *  - 응답 지연(latency), 오류 주입(errorRate, errorStatus) 설정 가능
+ */
+public class KeycloakStub implements AutoCloseable {
+    static {
+        // JDK HttpServer 는 기본적으로 유휴 커넥션을 200개까지만 유지
+        System.setProperty("sun.net.httpserver.maxIdleConnections", "10000");
+    }
+
+    public static final String ADMIN_USERNAME = "admin";
+    public static final String ADMIN_PASSWORD = "admin";
+    public static final List<String> REALM_ROLES = List.of("offline_access", "uma_authorization", "ROLE_USER", "ROLE_MANAGER", "ROLE_ADMIN");
+
+    private static final Pattern USERS = Pattern.compile("/admin/realms/([^/]+)/users");
+    private static final Pattern USER = Pattern.compile("/admin/realms/([^/]+)/users/([^/]+)");
+    private static final Pattern RESET_PASSWORD = Pattern.compile("/admin/realms/([^/]+)/users/([^/]+)/reset-password");
+    private static final Pattern REALM_ROLE_MAPPINGS = Pattern.compile("/admin/realms/([^/]+)/users/([^/]+)/role-mappings/realm");
+    private static final Pattern ROLES = Pattern.compile("/admin/realms/([^/]+)/roles");
+    private static final Pattern ROLE = Pattern.compile("/admin/realms/([^/]+)/roles/([^/]+)");
+    private static final Pattern TOKEN = Pattern.compile("/realms/([^/]+)/protocol/openid-connect/token");
+    private static final Pattern CERTS = Pattern.compile("/realms/([^/]+)/protocol/openid-connect/certs");
+    private static final Pattern DISCOVERY = Pattern.compile("/realms/([^/]+)/\\.well-known/openid-configuration");
+
+    private final String realm;
+    private final HttpServer server;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+        .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+    private final List<RSAKey> keys = new CopyOnWriteArrayList<>(); // 게시 중인 키 (마지막 키로 서명)
+    private volatile RSAKey signingKey;
+    private final Map<String, RoleRepresentation> roles = new ConcurrentHashMap<>();
+    private final Map<String, StubUser> users = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> requestCounts = new ConcurrentHashMap<>();
+
+    private volatile Duration latency = Duration.ZERO;
+    private volatile double errorRate = 0;
+    private volatile int errorStatus = 503;
+    private volatile boolean embeddedRolesIgnored = true; // Keycloak 과 같이 생성 요청의 realmRoles 무시
+    private volatile Duration accessTokenLifespan = Duration.ofMinutes(5);
+    private volatile Duration refreshTokenLifespan = Duration.ofMinutes(30);
+    private volatile String clientSecret; // 설정하면 토큰 요청의 client_secret 확인
+
+    public KeycloakStub(String realm) {
+        this.realm = realm;
+        try {
+            rotateSigningKey();
+            this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        REALM_ROLES.forEach(this::addRole);
+        addRole("default-roles-" + realm);
+
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public String getServerUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public String getIssuer() {
+        return getServerUrl() + "/realms/" + realm;
+    }
+
+    public String getJwkSetUri() {
+        return getIssuer() + "/protocol/openid-connect/certs";
+    }
+
+    public KeycloakStub latency(Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    // 주어진 비율의 요청에 errorStatus 응답 (JWKS, discovery 제외)
+    public KeycloakStub errors(double errorRate, int errorStatus) {
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+        return this;
+    }
+
+    // true(기본) 이면 Keycloak 과 같이 사용자 생성 요청의 realmRoles 를 무시, false 는 반영하는 Keycloak 을 가정한 확인용
+    public KeycloakStub ignoreEmbeddedRoles(boolean ignored) {
+        this.embeddedRolesIgnored = ignored;
+        return this;
+    }
+
+    public KeycloakStub accessTokenLifespan(Duration lifespan) {
+        this.accessTokenLifespan = lifespan;
+        return this;
+    }
+
+    public KeycloakStub refreshTokenLifespan(Duration lifespan) {
+        this.refreshTokenLifespan = lifespan;
+        return this;
+    }
+
+    public KeycloakStub clientSecret(String clientSecret) {
+        this.clientSecret = clientSecret;
+        return this;
+    }
+
+    // 새 서명 키로 교체 (이전 키도 계속 게시), 새 kid 반환
+    public String rotateSigningKey() {
+        try {
+            RSAKey key = new RSAKeyGenerator(2048).keyID("stub-key-" + (keys.size() + 1)).generate();
+            keys.add(key);
+            signingKey = key;
+            return key.getKeyID();
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 메서드 + 경로 패턴별 요청 수 (예: "POST /admin/realms/{realm}/users")
+    public long requestCount(String key) {
+        AtomicLong count = requestCounts.get(key);
+        return count == null ? 0 : count.get();
+    }
+
+    public void resetRequestCounts() {
+        requestCounts.clear();
+    }
+
+    public UserRepresentation findUser(String username) {
+        return users.values().stream().filter(u -> u.rep.getUsername().equals(username)).findFirst().map(u -> u.rep).orElse(null);
+    }
+
+    public Set<String> realmRolesOf(String userId) {
+        return Set.copyOf(users.get(userId).realmRoles);
+    }
+
+    public String addUser(String username, String password, String... realmRoles) {
+        UserRepresentation rep = new UserRepresentation();
+        rep.setUsername(username);
+        rep.setEmail(username + "@example.com");
+        rep.setFirstName(username);
+        rep.setLastName("Test");
+        rep.setEnabled(true);
+        return createUser(rep, password, List.of(realmRoles));
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            byte[] body = exchange.getRequestBody().readAllBytes();
+
+            Matcher m;
+            if ((m = CERTS.matcher(path)).matches()) {
+                count(method, "/realms/{realm}/protocol/openid-connect/certs");
+                send(exchange, 200, new JWKSet(keys.stream().map(key -> (JWK) key.toPublicJWK()).toList()).toJSONObject());
+                return;
+            }
+            if ((m = DISCOVERY.matcher(path)).matches()) {
+                count(method, "/realms/{realm}/.well-known/openid-configuration");
+                send(exchange, 200, Map.of(
+                    "issuer", getIssuer(),
+                    "jwks_uri", getJwkSetUri(),
+                    "token_endpoint", getIssuer() + "/protocol/openid-connect/token",
+                    "subject_types_supported", List.of("public"),
+                    "id_token_signing_alg_values_supported", List.of("RS256")));
+                return;
+            }
+
+            injectLatency();
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                count(method, "error");
+                send(exchange, errorStatus, Map.of("error", "injected"));
+                return;
+            }
+
+            if ((m = TOKEN.matcher(path)).matches() && method.equals("POST")) {
+                count(method, "/realms/{realm}/protocol/openid-connect/token");
+                token(exchange, parseForm(body));
+            } else if ((m = USERS.matcher(path)).matches() && method.equals("POST")) {
+                count(method, "/admin/realms/{realm}/users");
+                UserRepresentation rep = objectMapper.readValue(body, UserRepresentation.class);
+                if (findUser(rep.getUsername()) != null) {
+                    send(exchange, 409, Map.of("errorMessage", "User exists with same username"));
+                    return;
+                }
+                String password = rep.getCredentials() == null ? null : rep.getCredentials().stream()
+                    .filter(c -> CredentialRepresentation.PASSWORD.equals(c.getType()))
+                    .map(CredentialRepresentation::getValue)
+                    .findFirst().orElse(null);
+                List<String> realmRoles = embeddedRolesIgnored || rep.getRealmRoles() == null ? List.of() : rep.getRealmRoles();
+                String id = createUser(rep, password, realmRoles);
+                exchange.getResponseHeaders().add("Location", getServerUrl() + "/admin/realms/" + realm + "/users/" + id);
+                send(exchange, 201, null);
+            } else if ((m = USERS.matcher(path)).matches() && method.equals("GET")) {
+                count(method, "/admin/realms/{realm}/users");
+                String query = exchange.getRequestURI().getRawQuery();
+                Map<String, String> params = parseForm(query == null ? new byte[0] : query.getBytes(StandardCharsets.UTF_8));
+                int first = Integer.parseInt(params.getOrDefault("first", "0"));
+                int max = Integer.parseInt(params.getOrDefault("max", "100"));
+                String username = params.get("username"); // exact=true 만 지원
+                send(exchange, 200, users.values().stream() // Keycloak 과 같이 사용자명 순서
+                    .map(u -> u.rep)
+                    .filter(u -> username == null || u.getUsername().equalsIgnoreCase(username))
+                    .sorted(Comparator.comparing(UserRepresentation::getUsername))
+                    .skip(first)
+                    .limit(max)
+                    .toList());
+            } else if ((m = RESET_PASSWORD.matcher(path)).matches() && method.equals("PUT")) {
+                count(method, "/admin/realms/{realm}/users/{id}/reset-password");
+                StubUser user = users.get(m.group(2));
+                if (user == null) { send(exchange, 404, null); return; }
+                user.password = objectMapper.readValue(body, CredentialRepresentation.class).getValue();
+                send(exchange, 204, null);
+            } else if ((m = REALM_ROLE_MAPPINGS.matcher(path)).matches()) {
+                count(method, "/admin/realms/{realm}/users/{id}/role-mappings/realm");
+                StubUser user = users.get(m.group(2));
+                if (user == null) { send(exchange, 404, null); return; }
+                switch (method) {
+                    case "GET" -> send(exchange, 200, user.realmRoles.stream().map(roles::get).toList());
+                    case "POST" -> {
+                        readRoles(body).forEach(r -> user.realmRoles.add(r.getName()));
+                        send(exchange, 204, null);
+                    }
+                    case "DELETE" -> {
+                        readRoles(body).forEach(r -> user.realmRoles.remove(r.getName()));
+                        send(exchange, 204, null);
+                    }
+                    default -> send(exchange, 405, null);
+                }
+            } else if ((m = USER.matcher(path)).matches()) {
+                count(method, "/admin/realms/{realm}/users/{id}");
+                StubUser user = users.get(m.group(2));
+                if (user == null) { send(exchange, 404, Map.of("error", "User not found")); return; }
+                switch (method) {
+                    case "GET" -> send(exchange, 200, user.rep);
+                    case "PUT" -> {
+                        updateUser(user.rep, objectMapper.readValue(body, UserRepresentation.class));
+                        send(exchange, 204, null);
+                    }
+                    default -> send(exchange, 405, null);
+                }
+            } else if ((m = ROLE.matcher(path)).matches() && method.equals("GET")) {
+                count(method, "/admin/realms/{realm}/roles/{name}");
+                RoleRepresentation role = roles.get(URLDecoder.decode(m.group(2), StandardCharsets.UTF_8));
+                if (role == null) { send(exchange, 404, Map.of("error", "Could not find role")); return; }
+                send(exchange, 200, role);
+            } else if ((m = ROLES.matcher(path)).matches() && method.equals("GET")) {
+                count(method, "/admin/realms/{realm}/roles");
+                send(exchange, 200, new ArrayList<>(roles.values()));
+            } else {
+                count(method, "unknown");
+                send(exchange, 404, Map.of("error", "Unknown path " + path));
+            }
+        }
+    }
+
+    // 토큰 발급 - password, refresh_token grant
+    private void token(HttpExchange exchange, Map<String, String> form) throws IOException {
+        // Keycloak 과 동일하게 client 인증 실패는 401 invalid_client
+        if (clientSecret != null && !clientSecret.equals(form.get("client_secret"))) {
+            send(exchange, 401, Map.of("error", "invalid_client", "error_description", "Invalid client or Invalid client credentials"));
+            return;
+        }
+        if ("refresh_token".equals(form.get("grant_type"))) {
+            refresh(exchange, form.get("refresh_token"));
+            return;
+        }
+        if (!"password".equals(form.get("grant_type"))) {
+            send(exchange, 400, Map.of("error", "unsupported_grant_type"));
+            return;
+        }
+
+        String username = form.get("username");
+        String password = form.get("password");
+        if (ADMIN_USERNAME.equals(username) && ADMIN_PASSWORD.equals(password)) {
+            send(exchange, 200, tokenResponse(adminUser()));
+            return;
+        }
+
+        StubUser user = users.values().stream().filter(u -> u.rep.getUsername().equals(username)).findFirst().orElse(null);
+        if (user == null || !Objects.equals(user.password, password)) {
+            send(exchange, 401, Map.of("error", "invalid_grant", "error_description", "Invalid user credentials"));
+            return;
+        }
+
+        send(exchange, 200, tokenResponse(user));
+    }
+
+    // Keycloak 과 동일하게 만료/위조된 refresh token 은 400 invalid_grant, 누락은 400 invalid_request
+    private void refresh(HttpExchange exchange, String refreshToken) throws IOException {
+        if (refreshToken == null || refreshToken.isEmpty()) {
+            send(exchange, 400, Map.of("error", "invalid_request", "error_description", "Missing parameter: refresh_token"));
+            return;
+        }
+
+        JWTClaimsSet claims;
+        try {
+            SignedJWT jwt = SignedJWT.parse(refreshToken);
+            RSAKey key = keys.stream().filter(k -> k.getKeyID().equals(jwt.getHeader().getKeyID())).findFirst().orElse(null);
+            if (key == null || !jwt.verify(new RSASSAVerifier(key))) throw new JOSEException("Invalid signature");
+            claims = jwt.getJWTClaimsSet();
+        } catch (ParseException | JOSEException e) {
+            send(exchange, 400, Map.of("error", "invalid_grant", "error_description", "Invalid refresh token"));
+            return;
+        }
+
+        if (!"Refresh".equals(claims.getClaim("typ")) || claims.getExpirationTime().before(new Date())) {
+            send(exchange, 400, Map.of("error", "invalid_grant", "error_description", "Token is not active"));
+            return;
+        }
+
+        StubUser user = claims.getSubject().equals(adminUser().rep.getId()) ? adminUser() : users.get(claims.getSubject());
+        if (user == null) {
+            send(exchange, 400, Map.of("error", "invalid_grant", "error_description", "Session not active"));
+            return;
+        }
+
+        send(exchange, 200, tokenResponse(user));
+    }
+
+    private Map<String, Object> tokenResponse(StubUser user) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("access_token", sign(user, accessTokenLifespan, "Bearer"));
+        response.put("expires_in", accessTokenLifespan.toSeconds());
+        response.put("refresh_expires_in", refreshTokenLifespan.toSeconds());
+        response.put("refresh_token", sign(user, refreshTokenLifespan, "Refresh"));
+        response.put("token_type", "Bearer");
+        response.put("scope", "openid profile email");
+        return response;
+    }
+
+    private String sign(StubUser user, Duration lifespan, String type) {
+        Instant now = Instant.now();
+        UserRepresentation rep = user.rep;
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+            .issuer(getIssuer())
+            .subject(rep.getId())
+            .audience("account")
+            .issueTime(Date.from(now))
+            .expirationTime(Date.from(now.plus(lifespan)))
+            .jwtID(UUID.randomUUID().toString())
+            .claim("typ", type)
+            .claim("azp", "user-service")
+            .claim("scope", "openid profile email")
+            .claim("realm_access", Map.of("roles", List.copyOf(user.realmRoles)))
+            .claim("preferred_username", rep.getUsername())
+            .claim("email", rep.getEmail())
+            .claim("given_name", rep.getFirstName())
+            .claim("family_name", rep.getLastName())
+            .claim("mobile", rep.getAttributes() == null ? null : rep.getAttributes().getOrDefault("mobile", List.of("")).get(0))
+            .build();
+        RSAKey key = signingKey;
+        try {
+            SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256)
+                .keyID(key.getKeyID())
+                .type(JOSEObjectType.JWT)
+                .build(), claims);
+            jwt.sign(new RSASSASigner(key));
+            return jwt.serialize();
+        } catch (JOSEException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String createUser(UserRepresentation rep, String password, List<String> realmRoles) {
+        String id = UUID.randomUUID().toString();
+        rep.setId(id);
+        rep.setCredentials(null);
+        rep.setRealmRoles(null);
+        rep.setCreatedTimestamp(System.currentTimeMillis());
+        if (rep.getEmail() != null) {
+            rep.setEmail(rep.getEmail().toLowerCase());
+        }
+
+        StubUser user = new StubUser(rep);
+        user.password = password;
+        user.realmRoles.add("default-roles-" + realm);
+        user.realmRoles.addAll(realmRoles);
+        users.put(id, user);
+        return id;
+    }
+
+    // Keycloak(24+, User Profile) 과 같이 attributes 가 있으면 프로필 전체 갱신 - 요청에 없는 이름, 이메일은 삭제
+    // attributes 가 없으면 null 이 아닌 항목만 반영
+    private void updateUser(UserRepresentation target, UserRepresentation changes) {
+        if (changes.getAttributes() != null) {
+            target.setFirstName(changes.getFirstName());
+            target.setLastName(changes.getLastName());
+            target.setEmail(changes.getEmail() == null ? null : changes.getEmail().toLowerCase());
+            target.setAttributes(new HashMap<>(changes.getAttributes()));
+        } else {
+            if (changes.getFirstName() != null) target.setFirstName(changes.getFirstName());
+            if (changes.getLastName() != null) target.setLastName(changes.getLastName());
+            if (changes.getEmail() != null) target.setEmail(changes.getEmail().toLowerCase());
+        }
+        if (changes.isEnabled() != null) target.setEnabled(changes.isEnabled());
+    }
+
+    private StubUser adminUser() {
+        UserRepresentation rep = new UserRepresentation();
+        rep.setId(UUID.nameUUIDFromBytes(ADMIN_USERNAME.getBytes(StandardCharsets.UTF_8)).toString());
+        rep.setUsername(ADMIN_USERNAME);
+        StubUser admin = new StubUser(rep);
+        admin.realmRoles.add("ROLE_ADMIN");
+        return admin;
+    }
+
+    private void addRole(String name) {
+        RoleRepresentation role = new RoleRepresentation();
+        role.setId(UUID.randomUUID().toString());
+        role.setName(name);
+        role.setComposite(false);
+        role.setClientRole(false);
+        role.setContainerId(realm);
+        roles.put(name, role);
+    }
+
+    private List<RoleRepresentation> readRoles(byte[] body) throws IOException {
+        return objectMapper.readValue(body, new TypeReference<List<RoleRepresentation>>() {});
+    }
+
+    private Map<String, String> parseForm(byte[] body) {
+        Map<String, String> form = new HashMap<>();
+        for (String pair : new String(body, StandardCharsets.UTF_8).split("&")) {
+            int idx = pair.indexOf('=');
+            if (idx > 0) {
+                form.put(URLDecoder.decode(pair.substring(0, idx), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(idx + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return form;
+    }
+
+    private void injectLatency() {
+        Duration delay = latency;
+        if (delay.isZero()) return;
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void count(String method, String path) {
+        requestCounts.computeIfAbsent(method + " " + path, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    private void send(HttpExchange exchange, int status, Object body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static class StubUser {
+        private final UserRepresentation rep;
+        private final Set<String> realmRoles = new CopyOnWriteArraySet<>();
+        private volatile String password;
+
+        private StubUser(UserRepresentation rep) {
+            this.rep = rep;
+        }
+    }
+}
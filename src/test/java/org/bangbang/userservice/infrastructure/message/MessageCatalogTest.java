@@ -0,0 +1,65 @@
+package org.bangbang.userservice.infrastructure.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+class MessageCatalogTest {
+    private final MessageCatalog catalog = new MessageCatalog(List.of("messages.catalog-test"));
+
+    @AfterEach
+    void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    @DisplayName("요청 Locale 의 메시지를 찾고, 없으면 언어, 기본 번들 순으로 찾는다")
+    void localeFallback() {
+        // When
+        LocaleContextHolder.setLocale(Locale.US);
+        String us = catalog.getMessage("LOGIN.FAILED");
+        String usFallback = catalog.getMessage("LOGIN.LOCKED", new Object[] {"user1", 5});
+        LocaleContextHolder.setLocale(Locale.UK);
+        String uk = catalog.getMessage("LOGIN.FAILED");
+        LocaleContextHolder.setLocale(Locale.KOREA);
+        String korea = catalog.getMessage("LOGIN.FAILED");
+
+        // Then
+        assertThat(us).isEqualTo("Login failed (US).");
+        assertThat(usFallback).isEqualTo("Account user1 is locked for 5 minutes.");
+        assertThat(uk).isEqualTo("Login failed.");
+        assertThat(korea).isEqualTo("로그인에 실패했습니다.");
+    }
+
+    @Test
+    @DisplayName("MessageFormat 과 같은 결과로 인자를 치환한다")
+    void format() {
+        // Given
+        LocaleContextHolder.setLocale(Locale.KOREA);
+
+        // When, Then
+        assertThat(catalog.getMessage("LOGIN.LOCKED", new Object[] {"홍길동", 1000})).isEqualTo("홍길동님의 계정은 1,000분 동안 잠깁니다.");
+        assertThat(catalog.getMessage("LOGIN.LOCKED", new Object[] {"홍길동"})).isEqualTo("홍길동님의 계정은 {1}분 동안 잠깁니다.");
+        assertThat(catalog.getMessage("LOGIN.QUOTED", new Object[] {"x"})).isEqualTo("{0} 는 'x' 로 표시됩니다: x");
+        assertThat(catalog.getMessage("LOGIN.COUNT", new Object[] {3})).isEqualTo("3회 시도");
+        assertThat(catalog.getMessage("LOGIN.LOCKED")).isEqualTo("{0}님의 계정은 {1}분 동안 잠깁니다."); // 인자가 없으면 원문
+    }
+
+    @Test
+    @DisplayName("없는 코드는 기본 메시지나 빈 문자열을 반환하고, 일괄 조회에서는 제외한다")
+    void missing() {
+        // Given
+        LocaleContextHolder.setLocale(Locale.KOREA);
+
+        // When, Then
+        assertThat(catalog.getMessage("UNKNOWN")).isEmpty();
+        assertThat(catalog.getMessage("UNKNOWN", "기본 메시지")).isEqualTo("기본 메시지");
+        assertThat(catalog.getMessages(List.of("LOGIN.FAILED", "UNKNOWN"))).containsExactly("로그인에 실패했습니다.");
+        assertThat(catalog.getMessages(null)).isNull();
+    }
+}
@@ -0,0 +1,177 @@
+package org.bangbang.userservice.infrastructure.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.ws.rs.ServiceUnavailableException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.bangbang.userservice.application.dto.UserProfile;
+import org.bangbang.userservice.application.service.UserExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UserSearchIndexTest {
+
+    private final UserExportService exportService = mock(UserExportService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<UserProfile> keycloakUsers = new ArrayList<>();
+    private UserSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        keycloakUsers.add(user("hong", "hong@test.com", "010-1234-5678"));
+        keycloakUsers.add(user("honggildong", "gildong@test.com", "01099998888"));
+        keycloakUsers.add(user("kim", "kim@bang.com", "01012340000"));
+        given(exportService.export(eq(0L), any())).willAnswer(invocation -> {
+            Consumer<UserProfile> listener = invocation.getArgument(1);
+            keycloakUsers.forEach(listener);
+            return (long) keycloakUsers.size();
+        });
+        searchIndex = new UserSearchIndex(exportService, true, Duration.ofHours(6), 2000, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("첫 동기화 전에는 검색할 수 없고, 동기화 후 사용자명, 이메일, 휴대폰 번호 접두어로 검색한다")
+    void search_prefix() {
+        // Given
+        assertThat(searchIndex.isReady()).isFalse();
+
+        // When
+        searchIndex.sync();
+
+        // Then
+        assertThat(searchIndex.isReady()).isTrue();
+        assertThat(usernames(searchIndex.search("HONG", UserSearchIndex.Field.USERNAME, 10, false)))
+            .containsExactly("hong", "honggildong");
+        assertThat(usernames(searchIndex.search("gil", UserSearchIndex.Field.EMAIL, 10, false)))
+            .containsExactly("honggildong");
+        assertThat(usernames(searchIndex.search("010-1234", UserSearchIndex.Field.MOBILE, 10, false)))
+            .containsExactly("kim", "hong"); // 01012340000 < 01012345678
+        assertThat(usernames(searchIndex.search("hong", UserSearchIndex.Field.USERNAME, 1, false)))
+            .containsExactly("hong");
+        assertThat(meterRegistry.get("user.search.index.size").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("fuzzy 이면 접두어 일치 다음에 한 글자 다른 접두어까지 검색한다")
+    void search_fuzzy() {
+        // Given
+        searchIndex.sync();
+
+        // When
+        List<String> exact = usernames(searchIndex.search("hnog", UserSearchIndex.Field.USERNAME, 10, false));
+        List<String> fuzzy = usernames(searchIndex.search("hnog", UserSearchIndex.Field.USERNAME, 10, true));
+        List<String> typo = usernames(searchIndex.search("kin", null, 10, true));
+
+        // Then
+        assertThat(exact).isEmpty();
+        assertThat(fuzzy).isEmpty(); // 앞 2글자가 다르면 오타 검색 대상이 아니다
+        assertThat(typo).containsExactly("kim");
+        assertThat(usernames(searchIndex.search("hongg", UserSearchIndex.Field.USERNAME, 10, true)))
+            .containsExactly("honggildong", "hong"); // 접두어 일치가 먼저
+    }
+
+    @Test
+    @DisplayName("변경분의 오타 검색도 불변 구간과 같이 앞 2글자가 같은 값만 대상으로 한다")
+    void search_fuzzy_delta() {
+        // Given
+        searchIndex.sync();
+        searchIndex.upsert(user("hongsam", "hongsam@test.com", null));
+
+        // When
+        List<String> swapped = usernames(searchIndex.search("hnog", UserSearchIndex.Field.USERNAME, 10, true));
+        List<String> typo = usernames(searchIndex.search("honx", UserSearchIndex.Field.USERNAME, 10, true));
+
+        // Then
+        assertThat(swapped).isEmpty();
+        assertThat(typo).containsExactly("hong", "honggildong", "hongsam");
+    }
+
+    @Test
+    @DisplayName("user.search.enabled=false 이면 색인을 만들지 않는다")
+    void disabled() {
+        // Given
+        UserSearchIndex disabled = new UserSearchIndex(exportService, false, Duration.ofHours(6), 2000, meterRegistry);
+
+        // When
+        disabled.syncOnStartup();
+        disabled.upsert(user("park", "park@test.com", null));
+
+        // Then
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(disabled.isReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("가입, 회원 정보 변경은 재생성 없이 바로 검색되고 이전 값으로는 검색되지 않는다")
+    void upsert_overrides_base() {
+        // Given
+        searchIndex.sync();
+        UserProfile kim = keycloakUsers.get(2);
+
+        // When
+        searchIndex.upsert(new UserProfile(kim.userId(), "kim", "kim@new.com", null, null, "01012340000"));
+        searchIndex.upsert(user("kimchi", "kimchi@test.com", null));
+
+        // Then
+        assertThat(usernames(searchIndex.search("kim@bang", UserSearchIndex.Field.EMAIL, 10, false))).isEmpty();
+        assertThat(searchIndex.search("kim@new", UserSearchIndex.Field.EMAIL, 10, false))
+            .extracting(UserProfile::userId).containsExactly(kim.userId());
+        assertThat(usernames(searchIndex.search("kim", UserSearchIndex.Field.USERNAME, 10, false)))
+            .containsExactly("kim", "kimchi");
+    }
+
+    @Test
+    @DisplayName("동기화에 실패하면 이전 색인과 그동안의 변경분을 그대로 유지한다")
+    void sync_failure_keeps_delta() {
+        // Given
+        searchIndex.sync();
+        searchIndex.upsert(user("park", "park@test.com", null));
+        willThrow(new ServiceUnavailableException("Keycloak 장애")).given(exportService).export(eq(0L), any());
+
+        // When & Then
+        assertThatThrownBy(() -> searchIndex.sync()).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(usernames(searchIndex.search("park", null, 10, false))).containsExactly("park");
+        assertThat(usernames(searchIndex.search("hong", null, 10, false))).containsExactly("hong", "honggildong");
+        assertThat(meterRegistry.get("user.search.index.delta").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("불변 구간은 같은 사용자가 여러 번 추가되면 마지막 값만 남긴다")
+    void segment_keeps_last() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        UserSearchSegment.Builder builder = new UserSearchSegment.Builder();
+        builder.add(new UserProfile(userId, "before", "before@test.com", "길동", "홍", null));
+        builder.add(user("other", "other@test.com", null));
+        builder.add(new UserProfile(userId, "after", "after@test.com", "길동", "홍", null));
+
+        // When
+        UserSearchSegment segment = builder.build();
+
+        // Then
+        List<UserProfile> found = new ArrayList<>();
+        segment.forEach(doc -> found.add(segment.profile(doc)));
+        assertThat(segment.size()).isEqualTo(2);
+        assertThat(found).contains(new UserProfile(userId, "after", "after@test.com", "길동", "홍", null));
+    }
+
+    private List<String> usernames(List<UserProfile> users) {
+        return users.stream().map(UserProfile::username).toList();
+    }
+
+    private UserProfile user(String username, String email, String mobile) {
+        return new UserProfile(UUID.randomUUID(), username, email, null, null, mobile);
+    }
+}
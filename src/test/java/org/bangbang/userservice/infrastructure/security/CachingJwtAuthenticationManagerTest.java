@@ -0,0 +1,112 @@
+package org.bangbang.userservice.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.ProviderNotFoundException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+class CachingJwtAuthenticationManagerTest {
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final AuthenticationProvider delegate = mock(AuthenticationProvider.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Clock clock = mock(Clock.class);
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증하고 이후에는 캐시된 인증 정보를 반환한다")
+    void cached() {
+        // Given
+        given(delegate.authenticate(any())).will(inv -> authenticated(((BearerTokenAuthenticationToken) inv.getArgument(0)).getToken(), NOW.plusSeconds(300)));
+        given(clock.instant()).willReturn(NOW);
+        CachingJwtAuthenticationManager manager = manager(100);
+
+        // When
+        manager.authenticate(new BearerTokenAuthenticationToken("token-1"));
+        Authentication second = manager.authenticate(new BearerTokenAuthenticationToken("token-1"));
+
+        // Then
+        verify(delegate, times(1)).authenticate(any());
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThat(((JwtAuthenticationToken) second).getToken().getSubject()).isEqualTo("user-1");
+        assertThat(meterRegistry.get("security.jwt.cache").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰의 exp 가 지나면 다시 검증한다")
+    void expired() {
+        // Given
+        given(delegate.authenticate(any())).will(inv -> authenticated(((BearerTokenAuthenticationToken) inv.getArgument(0)).getToken(), NOW.plusSeconds(60)));
+        given(clock.instant()).willReturn(NOW, NOW.plusSeconds(30), NOW.plusSeconds(61));
+        CachingJwtAuthenticationManager manager = manager(100);
+
+        // When
+        manager.authenticate(new BearerTokenAuthenticationToken("token-1"));
+        manager.authenticate(new BearerTokenAuthenticationToken("token-1"));
+        manager.authenticate(new BearerTokenAuthenticationToken("token-1"));
+
+        // Then
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    @DisplayName("최대 건수를 넘지 않는다")
+    void bounded() {
+        // Given
+        given(delegate.authenticate(any())).will(inv -> authenticated(((BearerTokenAuthenticationToken) inv.getArgument(0)).getToken(), NOW.plusSeconds(300)));
+        given(clock.instant()).willReturn(NOW);
+        CachingJwtAuthenticationManager manager = manager(10);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            manager.authenticate(new BearerTokenAuthenticationToken("token-" + i));
+        }
+
+        // Then
+        assertThat(manager.size()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Bearer 토큰이 아닌 인증 요청은 ProviderNotFoundException 으로 거부한다")
+    void unsupported() {
+        // Given
+        CachingJwtAuthenticationManager manager = manager(100);
+
+        // When, Then
+        assertThatThrownBy(() -> manager.authenticate(new UsernamePasswordAuthenticationToken("user1", "password")))
+            .isInstanceOf(ProviderNotFoundException.class);
+        verify(delegate, never()).authenticate(any());
+    }
+
+    private CachingJwtAuthenticationManager manager(int maxSize) {
+        return new CachingJwtAuthenticationManager(delegate, maxSize, meterRegistry, clock);
+    }
+
+    private JwtAuthenticationToken authenticated(String token, Instant expiresAt) {
+        Jwt jwt = Jwt.withTokenValue(token)
+            .header("alg", "RS256")
+            .subject("user-1")
+            .issuedAt(NOW)
+            .expiresAt(expiresAt)
+            .build();
+        return new JwtAuthenticationToken(jwt, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+}
@@ -0,0 +1,127 @@
+package org.bangbang.userservice.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.bangbang.userservice.infrastructure.keycloak.api.KeycloakTokenGenerateService;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.bangbang.userservice.infrastructure.keycloak.resilience.KeycloakResilience;
+import org.bangbang.userservice.infrastructure.keycloak.stub.KeycloakStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.web.client.RestClient;
+
+class JwkSetCacheTest {
+    private static final String CERTS = "GET /realms/{realm}/protocol/openid-connect/certs";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private KeycloakStub stub;
+    private KeycloakTokenGenerateService tokenService;
+    private JwkSetCache cache;
+    private JwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        stub = new KeycloakStub("test");
+        stub.addUser("user1", "Password123!", "ROLE_USER");
+
+        KeycloakProperties properties = new KeycloakProperties();
+        properties.setServerUrl(stub.getServerUrl());
+        properties.setRealm("test");
+        properties.setClientId("user-service");
+        RestClient restClient = RestClient.builder().baseUrl(stub.getServerUrl()).build();
+        tokenService = new KeycloakTokenGenerateService(properties, restClient, KeycloakResilience.ofDefaults());
+
+        OAuth2ResourceServerProperties resourceServerProperties = new OAuth2ResourceServerProperties();
+        resourceServerProperties.getJwt().setIssuerUri(stub.getIssuer());
+        JwtDecoderConfig config = new JwtDecoderConfig();
+        cache = new JwkSetCache(URI.create(stub.getJwkSetUri()), properties.getJwks(), restClient, meterRegistry);
+        decoder = config.jwtDecoder(cache, resourceServerProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.stop();
+        stub.close();
+    }
+
+    @Test
+    @DisplayName("기동 시 적재한 Key Set 으로 JWKS 조회 없이 토큰을 검증한다")
+    void preloaded() {
+        // Given
+        cache.start();
+        String token = accessToken();
+
+        // When
+        Jwt jwt = decoder.decode(token);
+
+        // Then
+        assertThat(jwt.getClaimAsString("preferred_username")).isEqualTo("user1");
+        assertThat(stub.requestCount(CERTS)).isEqualTo(1);
+        assertThat(meterRegistry.get("security.jwks.refresh").tag("reason", "startup").tag("result", "success").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키가 교체되면 동시 요청이 몰려도 JWKS 는 한 번만 다시 조회한다")
+    void unknown_kid_single_fetch() throws Exception {
+        // Given
+        cache.start();
+        stub.rotateSigningKey();
+        String token = accessToken();
+
+        // When
+        List<Jwt> decoded;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Callable<Jwt>> tasks = IntStream.range(0, 50).<Callable<Jwt>>mapToObj(i -> () -> decoder.decode(token)).toList();
+            decoded = executor.invokeAll(tasks).stream().map(this::get).toList();
+        }
+
+        // Then
+        assertThat(decoded).hasSize(50).allSatisfy(jwt -> assertThat(jwt.getSubject()).isNotBlank());
+        assertThat(stub.requestCount(CERTS)).isEqualTo(2);
+        assertThat(cache.getJwkSet().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Keycloak 에 접속할 수 없으면 마지막 Key Set 으로 계속 검증한다")
+    void fallback_to_last_good() {
+        // Given
+        cache.start();
+        String token = accessToken();
+        stub.close();
+
+        // When
+        Throwable refreshFailure = catchThrowable(() -> cache.refresh("scheduled"));
+        Jwt jwt = decoder.decode(token);
+
+        // Then
+        assertThat(refreshFailure).isInstanceOf(IllegalStateException.class);
+        assertThat(jwt.getClaimAsString("preferred_username")).isEqualTo("user1");
+        assertThat(meterRegistry.get("security.jwks.refresh").tag("result", "failure").timer().count()).isEqualTo(1);
+    }
+
+    private String accessToken() {
+        return tokenService.generate("user1", "Password123!").access_token();
+    }
+
+    private Jwt get(Future<Jwt> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
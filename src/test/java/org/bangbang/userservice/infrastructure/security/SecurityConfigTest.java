@@ -0,0 +1,133 @@
+package org.bangbang.userservice.infrastructure.security;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.bangbang.userservice.application.service.AsyncSignupService;
+import org.bangbang.userservice.application.service.TokenGenerateService;
+import org.bangbang.userservice.application.service.UserExportService;
+import org.bangbang.userservice.application.service.UserImportService;
+import org.bangbang.userservice.application.service.UserRegisterService;
+import org.bangbang.userservice.application.service.UserUpdateService;
+import org.bangbang.userservice.infrastructure.keycloak.cache.RealmRoleRegistry;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.bangbang.userservice.presentation.controller.UserController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+// 보안 필터를 적용한 상태로 /user/profile, /user/password, /user/role 의 ROLE_USER 검사 확인
+@WebMvcTest(controllers = UserController.class, properties = "JWT_ISSUER_URI=http://test-issuer")
+@Import({SecurityConfig.class, SecurityConfigTest.TestConfig.class})
+@ActiveProfiles("test")
+class SecurityConfigTest {
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        RealmRoleRegistry realmRoleRegistry() {
+            return new RealmRoleRegistry(new KeycloakProperties(), null); // 토큰의 Role 만으로 판단
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private JwtDecoder jwtDecoder;
+
+    @MockitoBean
+    private TokenGenerateService tokenGenerateService;
+
+    @MockitoBean
+    private UserRegisterService userRegisterService;
+
+    @MockitoBean
+    private UserUpdateService userUpdateService;
+
+    @MockitoBean
+    private UserImportService userImportService;
+
+    @MockitoBean
+    private UserExportService userExportService;
+
+    @MockitoBean
+    private AsyncSignupService asyncSignupService;
+
+    @MockitoBean
+    private LoginThrottle loginThrottle;
+
+    @BeforeEach
+    void setUp() {
+        given(jwtDecoder.decode("user-token")).willReturn(jwt("user-token", "ROLE_USER"));
+        given(jwtDecoder.decode("admin-token")).willReturn(jwt("admin-token", "ROLE_ADMIN"));
+    }
+
+    @Test
+    @DisplayName("ROLE_USER 가 있는 토큰은 /user/profile 에 접근할 수 있다")
+    void profile_with_user_role() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/user/profile").header(HttpHeaders.AUTHORIZATION, "Bearer user-token"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.username").value("user1"));
+    }
+
+    @Test
+    @DisplayName("ROLE_USER 가 없는 토큰은 /user/profile, /user/password, /user/role 에서 403 을 반환한다")
+    void forbidden_without_user_role() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/user/profile").header(HttpHeaders.AUTHORIZATION, "Bearer admin-token"))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(patch("/user/password").header(HttpHeaders.AUTHORIZATION, "Bearer admin-token")
+                .contentType(MediaType.APPLICATION_JSON).content("{}"))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(patch("/user/role").header(HttpHeaders.AUTHORIZATION, "Bearer admin-token")
+                .contentType(MediaType.APPLICATION_JSON).content("{}"))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 /user/profile 에서 401 을 반환한다")
+    void unauthorized_without_token() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/user/profile"))
+            .andExpect(status().isUnauthorized());
+    }
+
+    private Jwt jwt(String token, String role) {
+        return Jwt.withTokenValue(token)
+            .header("alg", "RS256")
+            .subject(UUID.randomUUID().toString())
+            .claim("preferred_username", "user1")
+            .claim("realm_access", Map.of("roles", List.of(role)))
+            .issuedAt(Instant.now())
+            .expiresAt(Instant.now().plusSeconds(300))
+            .build();
+    }
+}
@@ -0,0 +1,74 @@
+package org.bangbang.userservice.infrastructure.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.time.Clock;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTableTest {
+    private final Clock clock = mock(Clock.class);
+
+    @Test
+    @DisplayName("capacity 회까지 허용하고, 이후에는 다음 토큰까지 남은 시간을 반환한다")
+    void consume() {
+        // Given
+        given(clock.millis()).willReturn(0L);
+        TokenBucketTable table = new TokenBucketTable(5, Duration.ofMinutes(1), 1000, clock);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertThat(table.tryConsume("user1")).isZero();
+        }
+        long waitMillis = table.tryConsume("user1");
+
+        // Then
+        assertThat(waitMillis).isEqualTo(12_000); // 1분에 5개 -> 12초에 1개
+        assertThat(table.tryConsume("user2")).isZero(); // 다른 키는 영향 없음
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 경과 시간만큼 토큰이 다시 채워진다")
+    void refill() {
+        // Given
+        given(clock.millis()).willReturn(0L);
+        TokenBucketTable table = new TokenBucketTable(2, Duration.ofSeconds(10), 1000, clock);
+        table.tryConsume("user1");
+        table.tryConsume("user1");
+
+        // When
+        given(clock.millis()).willReturn(5_000L);
+        long first = table.tryConsume("user1");
+        long second = table.tryConsume("user1");
+
+        // Then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(5_000);
+    }
+
+    @Test
+    @DisplayName("refillPeriod 이상 사용하지 않은 항목은 제거하고, 최대 건수를 넘으면 오래된 항목부터 제거한다")
+    void evict() {
+        // Given
+        given(clock.millis()).willReturn(0L);
+        TokenBucketTable table = new TokenBucketTable(1, Duration.ofSeconds(10), 64, clock); // stripe 당 1건
+        for (int i = 0; i < 1000; i++) {
+            table.tryConsume("user" + i);
+        }
+        int bounded = table.size();
+
+        // When
+        given(clock.millis()).willReturn(10_000L);
+        for (int i = 0; i < 1000; i++) {
+            table.tryConsume("ip" + i);
+        }
+
+        // Then
+        assertThat(bounded).isLessThanOrEqualTo(64);
+        assertThat(table.size()).isLessThanOrEqualTo(64);
+        assertThat(table.tryConsume("user1")).isZero(); // 제거된 항목은 가득 찬 버킷으로 다시 시작
+    }
+}
@@ -0,0 +1,174 @@
+package org.bangbang.userservice.infrastructure.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.bangbang.userservice.application.dto.UserCreated;
+import org.bangbang.userservice.application.dto.UserProfile;
+import org.bangbang.userservice.application.dto.UserRolesChanged;
+import org.bangbang.userservice.application.dto.UserUpdated;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.stream.binder.test.OutputDestination;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.support.ErrorMessage;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(
+    classes = UserEventPublisherTest.TestApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "spring.cloud.stream.default-binder=integration",
+        "eureka.client.enabled=false",
+        "user.events.confirm=false" // test binder 는 전송 확인 결과를 보내지 않는다
+    })
+@Import(TestChannelBinderConfiguration.class)
+@ActiveProfiles("test")
+class UserEventPublisherTest {
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import(UserEventPublisher.class)
+    static class TestApplication {}
+
+    @Autowired
+    private UserEventPublisher eventPublisher;
+
+    @Autowired
+    private OutputDestination output;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("이벤트는 발행 스레드가 user.events 로 순서대로 전송하고, 종류는 eventType 헤더, key 는 사용자 ID 이다")
+    void publish() throws Exception {
+        // Given
+        UserProfile user = new UserProfile(UUID.randomUUID(), "newuser", "new@test.com", "길동", "홍", "01012345678");
+
+        // When
+        eventPublisher.publish(UserCreated.of(user));
+        eventPublisher.publish(UserRolesChanged.of(user.userId(), List.of("ROLE_USER", "ROLE_ADMIN"), List.of("ROLE_ADMIN"), List.of()));
+
+        // Then
+        Message<byte[]> created = output.receive(5000, "user.events");
+        assertThat(created).isNotNull();
+        assertThat(created.getHeaders().get(UserEventPublisher.EVENT_TYPE_HEADER)).isEqualTo("UserCreated");
+        JsonNode payload = objectMapper.readTree(created.getPayload());
+        assertThat(payload.get("userId").asText()).isEqualTo(user.userId().toString());
+        assertThat(payload.get("username").asText()).isEqualTo("newuser");
+        assertThat(payload.hasNonNull("occurredAt")).isTrue();
+
+        Message<byte[]> rolesChanged = output.receive(5000, "user.events");
+        assertThat(rolesChanged.getHeaders().get(UserEventPublisher.EVENT_TYPE_HEADER)).isEqualTo("UserRolesChanged");
+        assertThat(objectMapper.readTree(rolesChanged.getPayload()).get("added").get(0).asText()).isEqualTo("ROLE_ADMIN");
+    }
+
+    @Test
+    @DisplayName("전송에 실패하면 outbox 에 보관했다가 같은 이벤트부터 순서대로 재전송한다")
+    void publish_retry_in_order() throws Exception {
+        // Given - 브로커 장애: 처음 3번 전송 실패
+        StreamBridge streamBridge = mock(StreamBridge.class);
+        List<Object> delivered = Collections.synchronizedList(new ArrayList<>());
+        given(streamBridge.send(eq(UserEventPublisher.BINDING), any(Message.class)))
+            .willThrow(new IllegalStateException("broker unavailable"))
+            .willReturn(false)
+            .willThrow(new IllegalStateException("broker unavailable"))
+            .willAnswer(invocation -> delivered.add(invocation.<Message<?>>getArgument(1).getPayload()));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UserEventPublisher publisher = new UserEventPublisher(streamBridge, true, 100, Duration.ofMillis(1), Duration.ofMillis(10),
+            Duration.ofSeconds(5), false, Duration.ofSeconds(1), meterRegistry);
+        UserCreated created = UserCreated.of(new UserProfile(UUID.randomUUID(), "user1", null, null, null, null));
+        UserUpdated updated = UserUpdated.of(new UserProfile(created.userId(), "user1", "user1@test.com", null, null, null));
+
+        // When
+        publisher.publish(created);
+        publisher.publish(updated);
+        publisher.start();
+        publisher.stop(); // 남은 이벤트를 모두 전송한 뒤 종료
+
+        // Then
+        assertThat(delivered).containsExactly(created, updated);
+        assertThat(publisher.pending()).isZero();
+        assertThat(meterRegistry.get("user.events.published").tag("result", "retried").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("user.events.published").tag("result", "sent").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("꺼낸 이벤트를 확인 없이 모두 보낸 뒤, 브로커 확인이 실패한 이벤트부터 순서대로 재전송하고 확인된 이벤트만 sent 로 집계한다")
+    void publish_confirm() throws Exception {
+        // Given - 두 번째 이벤트만 처음 한 번 전송 실패 (delivery.timeout.ms 초과)
+        StreamBridge streamBridge = mock(StreamBridge.class);
+        AtomicReference<UserEventPublisher> publisher = new AtomicReference<>();
+        AtomicBoolean failed = new AtomicBoolean();
+        List<String> attempts = Collections.synchronizedList(new ArrayList<>());
+        given(streamBridge.send(eq(UserEventPublisher.BINDING), any(Message.class))).willAnswer(invocation -> {
+            Message<?> message = invocation.getArgument(1);
+            String username = ((UserCreated) message.getPayload()).username();
+            attempts.add(username);
+            Thread.ofPlatform().start(() -> { // 프로듀서 I/O 스레드에서 전달되는 확인 결과
+                if (username.equals("user2") && failed.compareAndSet(false, true)) {
+                    publisher.get().onSendFailure(new ErrorMessage(new MessagingException(message, new IllegalStateException("delivery timeout"))));
+                } else {
+                    publisher.get().onSendSuccess(message);
+                }
+            });
+            return true;
+        });
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        publisher.set(new UserEventPublisher(streamBridge, true, 100, Duration.ofMillis(1), Duration.ofMillis(10),
+            Duration.ofSeconds(5), true, Duration.ofSeconds(5), meterRegistry));
+        for (String username : List.of("user1", "user2", "user3")) {
+            publisher.get().publish(UserCreated.of(new UserProfile(UUID.randomUUID(), username, null, null, null, null)));
+        }
+
+        // When
+        publisher.get().start();
+        publisher.get().stop();
+
+        // Then - user3 은 확인되었어도 user2 뒤에 다시 전송 (소비자는 eventId 로 중복 제거)
+        assertThat(attempts).containsExactly("user1", "user2", "user3", "user2", "user3");
+        assertThat(publisher.get().pending()).isZero();
+        assertThat(meterRegistry.get("user.events.published").tag("result", "sent").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("user.events.published").tag("result", "retried").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("outbox 가 가득 차면 새 이벤트는 버리고 요청 스레드를 막지 않는다")
+    void publish_overflow() {
+        // Given - 발행 스레드 시작 전
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        UserEventPublisher publisher = new UserEventPublisher(mock(StreamBridge.class), true, 2, Duration.ofMillis(1), Duration.ofMillis(10),
+            Duration.ofSeconds(5), false, Duration.ofSeconds(1), meterRegistry);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            publisher.publish(UserRolesChanged.of(UUID.randomUUID(), List.of("ROLE_USER"), List.of("ROLE_USER"), List.of()));
+        }
+
+        // Then
+        assertThat(publisher.pending()).isEqualTo(2);
+        assertThat(meterRegistry.get("user.events.published").tag("result", "dropped").counter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,74 @@
+package org.bangbang.userservice.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 고정 요청률(open model) 부하 발생기
+ *  - 응답을 기다리지 않고 예정된 시각마다 요청을 시작 (Virtual Thread)
+ *  - 지연 시간은 예정 시각 기준으로 측정하여 서버가 밀릴 때의 대기 시간까지 포함
+ */
+final class LoadGenerator {
+    private LoadGenerator() {}
+
+    /**
+     * @param request 요청 1건, HTTP 상태 코드 반환
+     */
+    static Report run(String name, int ratePerSecond, Duration duration, Callable<Integer> request) {
+        Histogram histogram = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+        AtomicLong errors = new AtomicLong();
+        long total = ratePerSecond * duration.toSeconds();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long intended = start + i * intervalNanos;
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                executor.execute(() -> {
+                    try {
+                        int status = request.call();
+                        if (status >= 400) errors.incrementAndGet();
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended), histogram.getHighestTrackableValue()));
+                    }
+                });
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        return new Report(name, ratePerSecond, total, errors.get(), elapsed, histogram);
+    }
+
+    record Report(String name, int targetRate, long requests, long errors, Duration elapsed, Histogram histogram) {
+
+        double throughput() {
+            return requests / (elapsed.toNanos() / 1_000_000_000.0);
+        }
+
+        void print() {
+            System.out.printf("%n[%s] target %d req/s, requests %d, errors %d, throughput %.1f req/s%n",
+                name, targetRate, requests, errors, throughput());
+            System.out.printf("  latency(ms) p50 %.2f, p90 %.2f, p99 %.2f, p99.9 %.2f, max %.2f%n",
+                ms(50), ms(90), ms(99), ms(99.9), histogram.getMaxValue() / 1000.0);
+            histogram.outputPercentileDistribution(System.out, 5, 1000.0); // 마이크로초 -> 밀리초
+        }
+
+        private double ms(double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1000.0;
+        }
+    }
+}
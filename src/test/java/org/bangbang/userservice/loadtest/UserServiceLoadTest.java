@@ -0,0 +1,126 @@
+package org.bangbang.userservice.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.bangbang.userservice.infrastructure.keycloak.stub.KeycloakStub;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * KeycloakStub 대상 end-to-end 부하 테스트 (./gradlew loadTest)
+ *  - /user/token, /user/signup, /user/profile 을 고정 요청률로 호출하고 처리량, 지연 시간 분포를 출력
+ *  - 설정 (-P 또는 -D) : loadtest.rate (초당 요청, 기본 100), loadtest.duration (초, 기본 10),
+ *    loadtest.keycloak.latency-ms (Keycloak 응답 지연, 기본 10), loadtest.keycloak.error-rate (오류 비율, 기본 0)
+ */
+@Tag("load")
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class UserServiceLoadTest {
+    private static final int RATE = Integer.getInteger("loadtest.rate", 100);
+    private static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("loadtest.duration", 10));
+    private static final String REALM = "loadtest";
+    private static final String PASSWORD = "Password123!";
+
+    private static final KeycloakStub keycloak = new KeycloakStub(REALM)
+        .latency(Duration.ofMillis(Integer.getInteger("loadtest.keycloak.latency-ms", 10)))
+        .errors(Double.parseDouble(System.getProperty("loadtest.keycloak.error-rate", "0")), 503);
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("keycloak.server-url", keycloak::getServerUrl);
+        registry.add("keycloak.realm", () -> REALM);
+        registry.add("keycloak.client-id", () -> "user-service");
+        registry.add("keycloak.client-secret", () -> "secret");
+        registry.add("keycloak.admin-username", () -> KeycloakStub.ADMIN_USERNAME);
+        registry.add("keycloak.admin-password", () -> KeycloakStub.ADMIN_PASSWORD);
+        registry.add("spring.security.oauth2.resourceserver.jwt.jwk-set-uri", keycloak::getJwkSetUri);
+        registry.add("JWT_ISSUER_URI", keycloak::getIssuer);
+        registry.add("openapi.service.url", () -> "http://localhost");
+        registry.add("eureka.client.enabled", () -> "false");
+        // 한 사용자, 한 IP 로 Keycloak 경로의 처리량을 측정하므로 로그인 시도 제한을 넉넉하게
+        registry.add("user.security.login-throttle.username.capacity", () -> "1000000");
+        registry.add("user.security.login-throttle.ip.capacity", () -> "1000000");
+        registry.add("keycloak.user-cache.broadcast", () -> "false"); // Kafka 없이 실행 (무효화 토픽 구독 안 함)
+        registry.add("user.events.enabled", () -> "false");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    @AfterAll
+    static void stopKeycloak() {
+        keycloak.close();
+    }
+
+    @Test
+    @DisplayName("토큰 발급, 회원 가입, 프로필 조회 부하")
+    void load() throws Exception {
+        keycloak.addUser("loaduser", PASSWORD, "ROLE_USER");
+        String tokenBody = objectMapper.writeValueAsString(new Credentials("loaduser", PASSWORD));
+        HttpResponse<String> token = http.send(post("/user/token", tokenBody), HttpResponse.BodyHandlers.ofString());
+        assertThat(token.statusCode()).isEqualTo(200);
+        String accessToken = objectMapper.readTree(token.body()).get("accessToken").asText();
+
+        AtomicLong seq = new AtomicLong();
+        LoadGenerator.Report tokenReport = LoadGenerator.run("POST /user/token", RATE, DURATION,
+            () -> http.send(post("/user/token", tokenBody), HttpResponse.BodyHandlers.discarding()).statusCode());
+        LoadGenerator.Report signupReport = LoadGenerator.run("POST /user/signup", RATE, DURATION,
+            () -> http.send(post("/user/signup", signup("load" + seq.incrementAndGet())), HttpResponse.BodyHandlers.discarding()).statusCode());
+        LoadGenerator.Report profileReport = LoadGenerator.run("GET /user/profile", RATE, DURATION,
+            () -> http.send(HttpRequest.newBuilder(uri("/user/profile"))
+                .header("Authorization", "Bearer " + accessToken)
+                .GET().build(), HttpResponse.BodyHandlers.discarding()).statusCode());
+
+        tokenReport.print();
+        signupReport.print();
+        profileReport.print();
+
+        assertThat(keycloak.findUser("load1")).isNotNull();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json))
+            .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private String signup(String username) throws Exception {
+        JsonNode node = objectMapper.createObjectNode()
+            .put("username", username)
+            .put("password", PASSWORD)
+            .put("confirmPassword", PASSWORD)
+            .put("email", username + "@example.com")
+            .put("firstName", "GilDong")
+            .put("lastName", "Hong")
+            .put("mobile", "01012345678");
+        return objectMapper.writeValueAsString(node);
+    }
+
+    private record Credentials(String username, String password) {}
+}
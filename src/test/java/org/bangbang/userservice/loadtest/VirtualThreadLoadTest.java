@@ -0,0 +1,239 @@
+package org.bangbang.userservice.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.bangbang.userservice.application.dto.UserRegister;
+import org.bangbang.userservice.application.dto.UserUpdate;
+import org.bangbang.userservice.application.service.UserRegisterService;
+import org.bangbang.userservice.application.service.UserUpdateService;
+import org.bangbang.userservice.infrastructure.keycloak.api.KeycloakTokenGenerateService;
+import org.bangbang.userservice.infrastructure.keycloak.cache.RealmRoleCache;
+import org.bangbang.userservice.infrastructure.keycloak.cache.UserProfileCache;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakConfig;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakHttpClientConfig;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.bangbang.userservice.infrastructure.keycloak.resilience.KeycloakResilience;
+import org.bangbang.userservice.infrastructure.keycloak.stub.KeycloakStub;
+import org.bangbang.userservice.infrastructure.search.UserSearchIndex;
+import org.bangbang.userservice.infrastructure.stream.UserEventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.keycloak.admin.client.Keycloak;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Platform Thread vs Virtual Thread 처리량 비교 (./gradlew loadTest)
+ *  - 응답 지연이 있는 Keycloak 토큰 엔드포인트 stub 에 블로킹 호출
+ *  - Platform Thread 는 Tomcat 기본 최대 스레드 수(200)로 제한
+ *  - Keycloak admin client(가입, 회원 정보 변경) 호출 시 Virtual Thread 고정(jdk.VirtualThreadPinned) 여부 확인
+ */
+@Tag("load")
+class VirtualThreadLoadTest {
+    private static final int REQUESTS = 4000;
+    private static final int PLATFORM_THREADS = 200;
+    private static final Duration KEYCLOAK_LATENCY = Duration.ofMillis(200);
+    private static final int ADMIN_WORKERS = 16; // 동시에 가입, 회원 정보 변경을 요청하는 사용자 수
+    private static final int ADMIN_ITERATIONS = 20;
+    private static final Duration PINNED_THRESHOLD = Duration.ofMillis(20); // JFR 기본값, Keycloak 응답 지연보다 짧게
+
+    static {
+        // JDK HttpServer 는 기본적으로 유휴 커넥션을 200개까지만 유지
+        System.setProperty("sun.net.httpserver.maxIdleConnections", String.valueOf(REQUESTS));
+    }
+
+    private HttpServer keycloak;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private KeycloakTokenGenerateService tokenService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        keycloak = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+        keycloak.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        keycloak.createContext("/realms/test/protocol/openid-connect/token", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(KEYCLOAK_LATENCY);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = """
+                {"access_token":"access-token","expires_in":300,"refresh_expires_in":1800,"refresh_token":"refresh-token","token_type":"Bearer"}
+                """.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        keycloak.start();
+
+        KeycloakProperties properties = new KeycloakProperties();
+        properties.setServerUrl("http://127.0.0.1:" + keycloak.getAddress().getPort());
+        properties.setRealm("test");
+        properties.setClientId("user-service");
+        properties.getHttp().setMaxConnections(REQUESTS);
+        properties.getHttp().setMaxConnectionsPerRoute(REQUESTS);
+        properties.getHttp().setConnectionRequestTimeout(Duration.ofSeconds(30));
+
+        KeycloakHttpClientConfig config = new KeycloakHttpClientConfig(properties);
+        connectionManager = config.keycloakConnectionManager();
+        RestClient restClient = config.keycloakRestClient(RestClient.builder(),
+            new StaticListableBeanFactory(Map.of("keycloakConnectionManager", connectionManager))
+                .getBeanProvider(PoolingHttpClientConnectionManager.class));
+        tokenService = new KeycloakTokenGenerateService(properties, restClient, resilience(properties, REQUESTS));
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionManager.close();
+        keycloak.stop(0);
+    }
+
+    @Test
+    @DisplayName("Keycloak 응답 지연 시 Virtual Thread 처리량이 Platform Thread 보다 높다")
+    void compare() {
+        run("warm-up", Executors::newVirtualThreadPerTaskExecutor);
+
+        Result platform = run("platform", () -> Executors.newFixedThreadPool(PLATFORM_THREADS));
+        Result virtual = run("virtual", Executors::newVirtualThreadPerTaskExecutor);
+
+        System.out.printf("%n%-10s %10s %12s%n", "mode", "failures", "req/s");
+        System.out.printf("%-10s %10d %12.0f%n", "platform", platform.failures(), platform.throughput());
+        System.out.printf("%-10s %10d %12.0f%n", "virtual", virtual.failures(), virtual.throughput());
+
+        assertThat(platform.failures()).isZero();
+        assertThat(virtual.failures()).isZero();
+        assertThat(virtual.throughput()).isGreaterThan(platform.throughput());
+    }
+
+    @Test
+    @DisplayName("Virtual Thread 에서 가입, 회원 정보 변경을 호출해도 admin client 의 synchronized 구간에 고정되지 않는다")
+    void adminClientPinning() {
+        List<String> pinned = new CopyOnWriteArrayList<>();
+        AtomicInteger failures = new AtomicInteger();
+
+        try (KeycloakStub stub = new KeycloakStub("test").latency(Duration.ofMillis(50));
+             RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(PINNED_THRESHOLD).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", event -> pinned.add(topFrames(event)));
+            recording.startAsync();
+
+            KeycloakProperties properties = new KeycloakProperties();
+            properties.setServerUrl(stub.getServerUrl());
+            properties.setRealm("test");
+            properties.setClientId("user-service");
+            properties.setAdminUsername(KeycloakStub.ADMIN_USERNAME);
+            properties.setAdminPassword(KeycloakStub.ADMIN_PASSWORD);
+            Keycloak keycloak = new KeycloakConfig(properties).keycloak();
+            KeycloakResilience resilience = resilience(properties, ADMIN_WORKERS);
+            RealmRoleCache roleCache = new RealmRoleCache(properties, keycloak, new SimpleMeterRegistry(), resilience);
+            UserRegisterService registerService = new UserRegisterService(properties, keycloak, roleCache,
+                mock(UserSearchIndex.class), mock(UserEventPublisher.class), resilience);
+            UserUpdateService updateService = new UserUpdateService(properties, keycloak, roleCache,
+                new UserProfileCache(properties, mock(StreamBridge.class), new SimpleMeterRegistry()),
+                mock(UserSearchIndex.class), mock(UserEventPublisher.class), new SimpleMeterRegistry(), resilience);
+
+            long start = System.nanoTime();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int worker = 0; worker < ADMIN_WORKERS; worker++) {
+                    int w = worker;
+                    executor.execute(() -> {
+                        for (int i = 0; i < ADMIN_ITERATIONS; i++) {
+                            try {
+                                String username = "load-" + w + "-" + i;
+                                registerService.register(UserRegister.builder()
+                                    .username(username).password("Password123!").email(username + "@example.com").build());
+                                UUID userId = UUID.fromString(stub.findUser(username).getId());
+                                updateService.update(userId, new UserUpdate("길동", "홍", null, "01012345678"));
+                                updateService.updatePassword(userId, "NewPassword123!");
+                            } catch (RuntimeException e) {
+                                failures.incrementAndGet();
+                            }
+                        }
+                    });
+                }
+            }
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            recording.stop(); // 남은 이벤트까지 전달
+            resilience.close();
+            keycloak.close();
+
+            System.out.printf("%nadmin client - users: %d, failures: %d, %.0f users/s, pinned: %d%n",
+                ADMIN_WORKERS * ADMIN_ITERATIONS, failures.get(), ADMIN_WORKERS * ADMIN_ITERATIONS / seconds, pinned.size());
+            pinned.stream().distinct().forEach(frames -> System.out.println("  pinned at " + frames));
+        }
+
+        assertThat(failures.get()).isZero();
+        assertThat(pinned).isEmpty();
+    }
+
+    // 스레드 모델 비교가 목적이므로 동시 실행 제한(ConcurrencyLimiter, Bulkhead)이 호출을 거절하지 않도록
+    private static KeycloakResilience resilience(KeycloakProperties properties, int concurrency) {
+        properties.getLimiter().setEnabled(false);
+        properties.getLimiter().setMaxCallThreads(Math.max(concurrency, properties.getLimiter().getMaxCallThreads()));
+        return new KeycloakResilience(CircuitBreakerRegistry.ofDefaults(),
+            BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(concurrency).build()),
+            TimeLimiterRegistry.of(TimeLimiterConfig.custom().timeoutDuration(Duration.ofSeconds(5)).build()),
+            properties, new SimpleMeterRegistry(), ObservationRegistry.NOOP);
+    }
+
+    private static String topFrames(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) return "?";
+        return stackTrace.getFrames().stream()
+            .filter(frame -> !frame.getMethod().getType().getName().matches("(java|jdk|sun)\\..*")) // JDK 내부 프레임 제외
+            .limit(5)
+            .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+            .collect(Collectors.joining(" <- "));
+    }
+
+    private Result run(String name, Supplier<ExecutorService> executorFactory) {
+        AtomicInteger failures = new AtomicInteger();
+        long start = System.nanoTime();
+        try (ExecutorService executor = executorFactory.get()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                executor.execute(() -> {
+                    try {
+                        tokenService.generate("testuser", "Password123!");
+                    } catch (RuntimeException e) {
+                        failures.incrementAndGet();
+                    }
+                });
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return new Result(name, failures.get(), REQUESTS / seconds);
+    }
+
+    private record Result(String name, int failures, double throughput) {}
+}
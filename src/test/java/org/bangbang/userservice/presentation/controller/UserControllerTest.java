@@ -1,20 +1,35 @@
 package org.bangbang.userservice.presentation.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 import org.bangbang.userservice.application.dto.TokenInfo;
+import org.bangbang.userservice.application.dto.UserProfile;
 import org.bangbang.userservice.application.dto.UserRegister;
+import org.bangbang.userservice.application.service.AsyncSignupService;
 import org.bangbang.userservice.application.service.TokenGenerateService;
+import org.bangbang.userservice.application.service.UserExportService;
+import org.bangbang.userservice.application.service.UserImportService;
 import org.bangbang.userservice.application.service.UserRegisterService;
 import org.bangbang.userservice.application.service.UserUpdateService;
+import org.bangbang.userservice.infrastructure.security.LoginThrottle;
 import org.bangbang.userservice.presentation.dto.TokenRequest;
 import org.bangbang.userservice.presentation.dto.UserRegisterRequest;
 import org.junit.jupiter.api.DisplayName;
@@ -25,6 +40,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean; // [변경] 새로운 import 경로
 import org.springframework.http.MediaType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 
 // 1. properties 설정 추가 (JWT_ISSUER_URI 에러 해결)
@@ -49,6 +65,18 @@ class UserControllerTest {
     @MockitoBean
     private UserUpdateService userUpdateService;
 
+    @MockitoBean
+    private UserImportService userImportService;
+
+    @MockitoBean
+    private UserExportService userExportService;
+
+    @MockitoBean
+    private AsyncSignupService asyncSignupService;
+
+    @MockitoBean
+    private LoginThrottle loginThrottle;
+
     @Test
     @DisplayName("회원가입 요청 성공 시 201 Created 반환")
     void signUp_success() throws Exception {
@@ -122,4 +150,31 @@ class UserControllerTest {
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("내보내기는 gzip 으로 압축한 NDJSON 을 보내고, 끝까지 보내면 마지막 줄에 done 과 다음 cursor 를 기록한다")
+    void exportUsers_done() throws Exception {
+        // Given
+        given(userExportService.export(eq(5L), any())).willAnswer(invocation -> {
+            Consumer<UserProfile> listener = invocation.getArgument(1);
+            listener.accept(new UserProfile(UUID.randomUUID(), "user1", "user1@test.com", "GilDong", "Hong", null));
+            listener.accept(new UserProfile(UUID.randomUUID(), "user2", "user2@test.com", "Chunhyang", "Sung", null));
+            return 7L;
+        });
+
+        // When
+        byte[] body = mockMvc.perform(get("/user/export").param("cursor", "5").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        // Then - gzip trailer 까지 기록되어야 끝까지 읽힌다
+        List<String> lines;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            lines = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+        }
+        assertThat(lines).hasSize(3);
+        assertThat(objectMapper.readTree(lines.get(1)).get("cursor").asLong()).isEqualTo(7);
+        assertThat(lines.get(2)).isEqualTo("{\"done\":true,\"cursor\":7}");
+    }
+}
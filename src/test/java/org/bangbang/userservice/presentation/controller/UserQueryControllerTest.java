@@ -0,0 +1,119 @@
+package org.bangbang.userservice.presentation.controller;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.bangbang.userservice.application.dto.UserProfile;
+import org.bangbang.userservice.application.service.UserUpdateService;
+import org.bangbang.userservice.infrastructure.keycloak.cache.RealmRoleRegistry;
+import org.bangbang.userservice.infrastructure.keycloak.config.KeycloakProperties;
+import org.bangbang.userservice.infrastructure.search.UserSearchIndex;
+import org.bangbang.userservice.infrastructure.security.SecurityConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+// 다른 서비스용 사용자 정보 조회 - 서비스 계정(ROLE_SERVICE), 관리자만 허용
+@WebMvcTest(controllers = UserQueryController.class, properties = "JWT_ISSUER_URI=http://test-issuer")
+@Import({SecurityConfig.class, UserQueryControllerTest.TestConfig.class})
+@ActiveProfiles("test")
+class UserQueryControllerTest {
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        RealmRoleRegistry realmRoleRegistry() {
+            return new RealmRoleRegistry(new KeycloakProperties(), null); // 토큰의 Role 만으로 판단
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private JwtDecoder jwtDecoder;
+
+    @MockitoBean
+    private UserUpdateService userUpdateService;
+
+    @MockitoBean
+    private UserSearchIndex userSearchIndex;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        given(jwtDecoder.decode("user-token")).willReturn(jwt("user-token", "ROLE_USER"));
+        given(jwtDecoder.decode("service-token")).willReturn(jwt("service-token", "ROLE_SERVICE"));
+        given(userUpdateService.getUser(userId)).willReturn(new UserProfile(userId, "user1", "user1@test.com", "GilDong", "Hong", "01012345678"));
+        given(userUpdateService.getUsers(List.of(userId))).willReturn(List.of(new UserProfile(userId, "user1", "user1@test.com", "GilDong", "Hong", "01012345678")));
+    }
+
+    @Test
+    @DisplayName("일반 사용자 토큰으로는 다른 사용자의 정보를 조회할 수 없다")
+    void forbidden_for_user_role() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/user/{userId}", userId).header(HttpHeaders.AUTHORIZATION, "Bearer user-token"))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(get("/users").param("ids", userId.toString()).header(HttpHeaders.AUTHORIZATION, "Bearer user-token"))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("서비스 계정 토큰은 사용자 정보를 조회할 수 있다")
+    void allowed_for_service_role() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/user/{userId}", userId).header(HttpHeaders.AUTHORIZATION, "Bearer service-token"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.email").value("user1@test.com"));
+        mockMvc.perform(get("/users").param("ids", userId.toString()).header(HttpHeaders.AUTHORIZATION, "Bearer service-token"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].username").value("user1"));
+    }
+
+    @Test
+    @DisplayName("사용자 검색이 비활성화되어 있으면 /users/search 는 404 를 반환한다")
+    void search_disabled() throws Exception {
+        // Given
+        given(jwtDecoder.decode("admin-token")).willReturn(jwt("admin-token", "ROLE_ADMIN"));
+        given(userSearchIndex.isEnabled()).willReturn(false);
+
+        // When & Then
+        mockMvc.perform(get("/users/search").param("q", "hong").header(HttpHeaders.AUTHORIZATION, "Bearer admin-token"))
+            .andExpect(status().isNotFound());
+    }
+
+    private Jwt jwt(String token, String role) {
+        return Jwt.withTokenValue(token)
+            .header("alg", "RS256")
+            .subject(UUID.randomUUID().toString())
+            .claim("realm_access", Map.of("roles", List.of(role)))
+            .issuedAt(Instant.now())
+            .expiresAt(Instant.now().plusSeconds(300))
+            .build();
+    }
+}
@@ -0,0 +1,23 @@
+package org.bangbang.userservice.presentation.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MobileValidatorTest {
+
+    private final MobileValidator mobileValidator = new MobileValidator() {};
+
+    @Test
+    @DisplayName("휴대전화 번호는 숫자 외 문자를 무시하고 01[016] + 7~8자리 숫자인지 확인한다")
+    void checkMobile() {
+        assertThat(mobileValidator.checkMobile("01012345678")).isTrue();
+        assertThat(mobileValidator.checkMobile("010-1234-5678")).isTrue();
+        assertThat(mobileValidator.checkMobile("016-123-4567")).isTrue();
+        assertThat(mobileValidator.checkMobile("0212345678")).isFalse();
+        assertThat(mobileValidator.checkMobile("017-1234-5678")).isFalse();
+        assertThat(mobileValidator.checkMobile("010-123-456")).isFalse();
+        assertThat(mobileValidator.checkMobile("010-1234-56789")).isFalse();
+    }
+}
@@ -0,0 +1,28 @@
+package org.bangbang.userservice.presentation.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PasswordRuleTest {
+
+    @Test
+    @DisplayName("모든 규칙을 만족하면 실패 규칙이 없다")
+    void failed_none() {
+        assertThat(PasswordRule.failed("Password123!")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("만족하지 못한 규칙을 모두 반환한다")
+    void failed_rules() {
+        assertThat(PasswordRule.failed("password")).containsExactly(
+            PasswordRule.UPPER_CASE, PasswordRule.NUMBER, PasswordRule.SPECIAL_CHAR);
+    }
+
+    @Test
+    @DisplayName("한글은 특수 문자로 취급하지 않는다")
+    void failed_korean_is_not_special() {
+        assertThat(PasswordRule.failed("Password123가ㅎ")).containsExactly(PasswordRule.SPECIAL_CHAR);
+    }
+}